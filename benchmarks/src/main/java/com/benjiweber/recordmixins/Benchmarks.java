@@ -0,0 +1,62 @@
+package com.benjiweber.recordmixins;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+public class Benchmarks {
+    public static void main(String... args) throws RunnerException, IOException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldListProfilers()) {
+            commandLine.listProfilers();
+            return;
+        }
+        if (commandLine.shouldListResultFormats()) {
+            commandLine.listResultFormats();
+            return;
+        }
+        if (commandLine.shouldList() || commandLine.shouldListWithParams()) {
+            Runner runner = new Runner(commandLine);
+            if (commandLine.shouldListWithParams()) {
+                runner.listWithParams(commandLine);
+            } else {
+                runner.list();
+            }
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(Benchmarks.class.getPackageName() + ".*");
+        }
+        if (commandLine.getProfilers().stream().noneMatch(p -> p.getKlass().equals("gc") || p.getKlass().equals(GCProfiler.class.getName()))) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getForkCount().hasValue()) {
+            options.forks(1);
+        }
+        if (!commandLine.getWarmupIterations().hasValue()) {
+            options.warmupIterations(3);
+        }
+        if (!commandLine.getMeasurementIterations().hasValue()) {
+            options.measurementIterations(5);
+        }
+        new Runner(options.build()).run();
+    }
+}
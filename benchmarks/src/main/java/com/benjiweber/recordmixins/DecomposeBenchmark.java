@@ -0,0 +1,48 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.DecomposeRecordsTest.If;
+import com.benjiweber.recordmixins.DecomposeRecordsTest.Name;
+import com.benjiweber.recordmixins.DecomposeRecordsTest.Nums;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecomposeBenchmark {
+    private Object name = new Name("Benji", "Weber");
+    private Object nums = new Nums(5, 6);
+
+    @Benchmark
+    public Optional<Integer> instanceHit() {
+        return If.instance(name, (String first, String last) -> first.length() + last.length());
+    }
+
+    @Benchmark
+    public Optional<Integer> instanceMiss() {
+        return If.instance(nums, (String first, String last) -> first.length() + last.length());
+    }
+
+    @Benchmark
+    public Optional<Integer> instanceHitBaseline() {
+        return lengths(name);
+    }
+
+    @Benchmark
+    public Optional<Integer> instanceMissBaseline() {
+        return lengths(nums);
+    }
+
+    private static Optional<Integer> lengths(Object o) {
+        return o instanceof Name n
+                ? Optional.of(n.first().length() + n.last().length())
+                : Optional.empty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.RecordMixinsTest.EnhancedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnhancedListBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Integer> values;
+    private EnhancedList<Integer> list;
+
+    @Setup
+    public void setup() {
+        values = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        list = new EnhancedList<>(values);
+    }
+
+    @Benchmark
+    public EnhancedList<Integer> where() {
+        return list.where(i -> i % 2 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> whereBaseline() {
+        List<Integer> result = new ArrayList<>();
+        for (Integer i : values) {
+            if (i % 2 == 0) result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> map() {
+        return list.map(i -> i * 2);
+    }
+
+    @Benchmark
+    public List<Integer> mapBaseline() {
+        List<Integer> result = new ArrayList<>(values.size());
+        for (Integer i : values) {
+            result.add(i * 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy() {
+        return list.groupBy(i -> i % 10);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByBaseline() {
+        Map<Integer, List<Integer>> result = new HashMap<>();
+        for (Integer i : values) {
+            result.computeIfAbsent(i % 10, k -> new ArrayList<>()).add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.RecordTuplesTest.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import typeref.MethodAwareFunction;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MethodFinderBenchmark {
+    private static final Method name = nameMethod();
+
+    private final MethodAwareFunction<Person, String> accessor = Person::name;
+
+    @Benchmark
+    public Method method() {
+        return accessor.method();
+    }
+
+    @Benchmark
+    public Method baseline() {
+        return name;
+    }
+
+    private static Method nameMethod() {
+        try {
+            return Person.class.getMethod("name");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
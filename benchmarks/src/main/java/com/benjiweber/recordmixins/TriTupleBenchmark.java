@@ -0,0 +1,68 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.RecordTuplesTest.Colour;
+import com.benjiweber.recordmixins.RecordTuplesTest.Person;
+import com.benjiweber.recordmixins.RecordTuplesTest.Town;
+import com.benjiweber.recordmixins.RecordTuplesTest.TriTuple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TriTupleBenchmark {
+    private Person sam = new Person("Sam", 34, 83.2);
+    private Colour colour = new Colour(1, 2, 3);
+
+    @Benchmark
+    public Person with() {
+        return sam.with(Person::name, "Beverly");
+    }
+
+    @Benchmark
+    public Person withBaseline() {
+        return new Person("Beverly", sam.age(), sam.height());
+    }
+
+    @Benchmark
+    public Town toClass() {
+        return colour.to(Town.class);
+    }
+
+    @Benchmark
+    public Town toFunction() {
+        return colour.to(Town::new);
+    }
+
+    @Benchmark
+    public Town toBaseline() {
+        return new Town(colour.red(), colour.green(), colour.blue());
+    }
+
+    @Benchmark
+    public Person builderClass() {
+        return TriTuple.builder(Person.class)
+                .with(Person::name, sam.name())
+                .with(Person::age, sam.age())
+                .with(Person::height, sam.height());
+    }
+
+    @Benchmark
+    public Person safebuilder() {
+        return TriTuple.safebuilder(Person::new)
+                .with(Person::name, sam.name())
+                .with(Person::age, sam.age())
+                .with(Person::height, sam.height());
+    }
+
+    @Benchmark
+    public Person builderBaseline() {
+        return new Person(sam.name(), sam.age(), sam.height());
+    }
+}
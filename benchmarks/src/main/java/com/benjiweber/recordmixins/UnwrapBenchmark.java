@@ -0,0 +1,48 @@
+package com.benjiweber.recordmixins;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UnwrapBenchmark {
+    private Optional<Optional<Optional<String>>> nested = Optional.of(Optional.of(Optional.of("Hello World")));
+    private Optional<Optional<Optional<String>>> empty = Optional.of(Optional.empty());
+
+    @Benchmark
+    public Object unwrap() {
+        return OptionalPatternMatchTest.unwrap(nested);
+    }
+
+    @Benchmark
+    public Object unwrapEmpty() {
+        return OptionalPatternMatchTest.unwrap(empty);
+    }
+
+    @Benchmark
+    public Object unwrapBaseline() {
+        return unwrapByHand(nested);
+    }
+
+    @Benchmark
+    public Object unwrapEmptyBaseline() {
+        return unwrapByHand(empty);
+    }
+
+    private static Object unwrapByHand(Optional<Optional<Optional<String>>> o) {
+        if (o.isEmpty()) return OptionalPatternMatchTest.None.None;
+        Optional<Optional<String>> inner = o.get();
+        if (inner.isEmpty()) return OptionalPatternMatchTest.None.None;
+        Optional<String> innermost = inner.get();
+        if (innermost.isEmpty()) return OptionalPatternMatchTest.None.None;
+        return innermost.get();
+    }
+}
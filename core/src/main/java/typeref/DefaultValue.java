@@ -0,0 +1,118 @@
+package typeref;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static java.util.Map.entry;
+
+public class DefaultValue {
+    private static final Object NONE = new Object();
+
+    private static final Map<Class<?>, Object> knownValues = Map.ofEntries(
+            entry(int.class, 0),
+            entry(Integer.class, 0),
+            entry(boolean.class, false),
+            entry(Boolean.class, false),
+            entry(byte.class, (byte) 0),
+            entry(Byte.class, (byte) 0),
+            entry(char.class, '\0'),
+            entry(Character.class, '\0'),
+            entry(short.class, (short) 0),
+            entry(Short.class, (short) 0),
+            entry(long.class, 0L),
+            entry(Long.class, 0L),
+            entry(float.class, 0.0f),
+            entry(Float.class, 0.0f),
+            entry(double.class, 0.0d),
+            entry(Double.class, 0.0d),
+            entry(Optional.class, Optional.empty()),
+            entry(OptionalInt.class, OptionalInt.empty()),
+            entry(OptionalLong.class, OptionalLong.empty()),
+            entry(OptionalDouble.class, OptionalDouble.empty()),
+            entry(Iterable.class, List.of()),
+            entry(Collection.class, List.of()),
+            entry(List.class, List.of()),
+            entry(Set.class, Set.of()),
+            entry(Map.class, Map.of())
+    );
+
+    private static final ClassValue<Object> defaultValues = new ClassValue<>() {
+        protected Object computeValue(Class<?> type) {
+            Object value = compute(type, new HashSet<>());
+            return value == null ? NONE : value;
+        }
+    };
+
+    public static <T> T ofType(Class<?> type) {
+        return (T) resolve(defaultValues.get(type));
+    }
+
+    private static Object resolve(Object value) {
+        if (value instanceof Fresh fresh) {
+            return fresh.supplier().get();
+        }
+        return value == NONE ? null : value;
+    }
+
+    private static Object compute(Class<?> type, Set<Class<?>> constructing) {
+        if (knownValues.containsKey(type)) {
+            return knownValues.get(type);
+        }
+        if (type.isArray()) {
+            return Array.newInstance(type.getComponentType(), 0);
+        }
+        if (isConcreteContainer(type)) {
+            try {
+                Instantiator<?> instantiator = Instantiator.of(type);
+                instantiator.newInstance();
+                return new Fresh(instantiator::newInstance);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+        if (type.isRecord() && constructing.add(type)) {
+            try {
+                RecordConstructor<?> constructor = RecordConstructor.of(type);
+                Object[] args = new Object[constructor.arity()];
+                boolean fresh = false;
+                for (int i = 0; i < args.length; i++) {
+                    args[i] = compute(constructor.parameterType(i), constructing);
+                    fresh |= args[i] instanceof Fresh;
+                }
+                Object value = constructor.newInstance(resolveAll(args));
+                return fresh ? new Fresh(() -> constructor.newInstance(resolveAll(args))) : value;
+            } catch (RuntimeException e) {
+                return null;
+            } finally {
+                constructing.remove(type);
+            }
+        }
+        return null;
+    }
+
+    private static Object[] resolveAll(Object[] defaults) {
+        Object[] values = new Object[defaults.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = resolve(defaults[i]);
+        }
+        return values;
+    }
+
+    private static boolean isConcreteContainer(Class<?> type) {
+        return (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type))
+                && !type.isInterface()
+                && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    private record Fresh(Supplier<Object> supplier) {}
+}
@@ -0,0 +1,31 @@
+package typeref;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+final class Handles {
+    private static final Map<Class<?>, Class<?>> boxingMappings = Map.of(
+            boolean.class, Boolean.class,
+            byte.class, Byte.class,
+            char.class, Character.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class
+    );
+
+    private Handles() {}
+
+    static MethodHandles.Lookup lookupIn(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    static Class<?> boxed(Class<?> type) {
+        return boxingMappings.getOrDefault(type, type);
+    }
+}
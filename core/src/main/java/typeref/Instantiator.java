@@ -0,0 +1,183 @@
+package typeref;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public final class Instantiator<T> {
+    private static final ClassValue<Instantiator<?>> instantiators = new ClassValue<>() {
+        protected Instantiator<?> computeValue(Class<?> type) {
+            return new Instantiator<>(type);
+        }
+    };
+
+    private static final MethodType copier = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType getter = MethodType.methodType(Object.class, Object.class);
+    private static final Set<Class<?>> immutableTypes = Set.of(
+            String.class, Boolean.class, Byte.class, Character.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class, Class.class);
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final MethodHandle clone;
+    private final MethodHandle[] fieldCopiers;
+    private final Field finalField;
+    private final MethodHandle[] mutableGetters;
+
+    private Instantiator(Class<T> type) {
+        this.type = type;
+        MethodHandles.Lookup lookup = Handles.lookupIn(type);
+        this.constructor = find(() -> lookup.findConstructor(type, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class)));
+        this.clone = Cloneable.class.isAssignableFrom(type) && !type.isArray()
+                ? find(() -> lookup.findVirtual(type, "clone", MethodType.methodType(Object.class))
+                        .asType(MethodType.methodType(Object.class, Object.class)))
+                : null;
+        this.fieldCopiers = fieldCopiers(type);
+        this.finalField = finalField(type);
+        this.mutableGetters = mutableGetters(type);
+    }
+
+    public static <T> Instantiator<T> of(Class<T> type) {
+        return (Instantiator<T>) instantiators.get(type);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public T newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException(type.getName() + " has no accessible no-arg constructor");
+        }
+        try {
+            return (T) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Copies a prototype by {@code clone()} when the type is Cloneable, otherwise field by field as {@link #copyInto}.
+     */
+    public T copyOf(T prototype) {
+        if (clone != null) {
+            try {
+                return (T) clone.invokeExact((Object) prototype);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+        T copy = newInstance();
+        copyInto(prototype, copy);
+        return copy;
+    }
+
+    /**
+     * Shallow copy: every non-static field is assigned, so collections, arrays and other mutable
+     * objects end up shared between {@code from} and {@code to}. Types with final instance fields are
+     * rejected rather than left partially copied.
+     */
+    public void copyInto(T from, T to) {
+        if (finalField != null) {
+            throw new IllegalStateException(type.getName() + " cannot be copied field by field, "
+                    + finalField.getDeclaringClass().getSimpleName() + "." + finalField.getName() + " is final");
+        }
+        try {
+            for (MethodHandle fieldCopier : fieldCopiers) {
+                fieldCopier.invokeExact((Object) to, (Object) from);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public boolean sharesState(T instance) {
+        if (finalField != null) {
+            return true;
+        }
+        try {
+            for (MethodHandle mutableGetter : mutableGetters) {
+                if ((Object) mutableGetter.invokeExact((Object) instance) != null) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandle[] fieldCopiers(Class<?> type) {
+        List<MethodHandle> copiers = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            MethodHandles.Lookup lookup = Handles.lookupIn(c);
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                    continue;
+                }
+                MethodHandle fieldCopier = find(() -> MethodHandles.filterArguments(
+                        lookup.unreflectSetter(field), 1, lookup.unreflectGetter(field)).asType(copier));
+                if (fieldCopier != null) {
+                    copiers.add(fieldCopier);
+                }
+            }
+        }
+        return copiers.toArray(new MethodHandle[0]);
+    }
+
+    private static MethodHandle[] mutableGetters(Class<?> type) {
+        List<MethodHandle> getters = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            MethodHandles.Lookup lookup = Handles.lookupIn(c);
+            for (Field field : c.getDeclaredFields()) {
+                Class<?> fieldType = field.getType();
+                if (Modifier.isStatic(field.getModifiers()) || fieldType.isPrimitive() || fieldType.isEnum()
+                        || immutableTypes.contains(fieldType)) {
+                    continue;
+                }
+                MethodHandle mutableGetter = find(() -> lookup.unreflectGetter(field).asType(getter));
+                if (mutableGetter != null) {
+                    getters.add(mutableGetter);
+                }
+            }
+        }
+        return getters.toArray(new MethodHandle[0]);
+    }
+
+    private static Field finalField(Class<?> type) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()) && !field.isSynthetic()) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private interface HandleLookup {
+        MethodHandle find() throws ReflectiveOperationException;
+    }
+
+    private static MethodHandle find(HandleLookup lookup) {
+        try {
+            return lookup.find();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
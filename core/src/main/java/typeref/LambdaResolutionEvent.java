@@ -0,0 +1,24 @@
+package typeref;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("typeref.LambdaResolution")
+@Label("Lambda Resolution")
+@Category("Record Mixins")
+@Description("Resolution of a serializable lambda to the method it refers to")
+@StackTrace(false)
+public final class LambdaResolutionEvent extends Event {
+    @Label("Impl Class")
+    public Class<?> implClass;
+
+    @Label("Impl Method")
+    public String implMethod;
+
+    @Label("Cached")
+    public boolean cached;
+}
@@ -0,0 +1,99 @@
+package typeref;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+final class LocalVariableNames {
+    private LocalVariableNames() {}
+
+    static String parameterName(Method method, int index) {
+        Class<?> cls = method.getDeclaringClass();
+        String resource = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+        int slot = Modifier.isStatic(method.getModifiers()) ? 0 : 1;
+        for (int i = 0; i < index; i++) {
+            Class<?> type = method.getParameterTypes()[i];
+            slot += type == long.class || type == double.class ? 2 : 1;
+        }
+        String descriptor = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+        try (InputStream in = cls.getResourceAsStream(resource)) {
+            return in == null ? null : find(new DataInputStream(in), method.getName(), descriptor, slot);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String find(DataInputStream in, String name, String descriptor, int slot) throws IOException {
+        in.skipNBytes(8);
+        String[] utf8 = new String[in.readUnsignedShort()];
+        for (int i = 1; i < utf8.length; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+                case 15 -> in.skipNBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+                case 5, 6 -> {
+                    in.skipNBytes(8);
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        in.skipNBytes(6);
+        in.skipNBytes(2 * in.readUnsignedShort());
+        skipMembers(in);
+        int methods = in.readUnsignedShort();
+        for (int m = 0; m < methods; m++) {
+            in.skipNBytes(2);
+            boolean target = name.equals(utf8[in.readUnsignedShort()]) & descriptor.equals(utf8[in.readUnsignedShort()]);
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attribute = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if (!target || !"Code".equals(attribute)) {
+                    in.skipNBytes(length);
+                    continue;
+                }
+                in.skipNBytes(4);
+                in.skipNBytes(in.readInt());
+                in.skipNBytes(8 * in.readUnsignedShort());
+                int codeAttributes = in.readUnsignedShort();
+                for (int c = 0; c < codeAttributes; c++) {
+                    String codeAttribute = utf8[in.readUnsignedShort()];
+                    int codeAttributeLength = in.readInt();
+                    if (!"LocalVariableTable".equals(codeAttribute)) {
+                        in.skipNBytes(codeAttributeLength);
+                        continue;
+                    }
+                    int entries = in.readUnsignedShort();
+                    for (int e = 0; e < entries; e++) {
+                        in.skipNBytes(4);
+                        String variable = utf8[in.readUnsignedShort()];
+                        in.skipNBytes(2);
+                        if (in.readUnsignedShort() == slot) {
+                            return variable;
+                        }
+                    }
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int members = in.readUnsignedShort();
+        for (int m = 0; m < members; m++) {
+            in.skipNBytes(6);
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                in.skipNBytes(2);
+                in.skipNBytes(in.readInt());
+            }
+        }
+    }
+}
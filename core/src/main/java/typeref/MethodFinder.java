@@ -1,12 +1,10 @@
 package typeref;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.Objects;
-
-import static java.util.Arrays.asList;
 
 public interface MethodFinder extends Serializable {
     default SerializedLambda serialized() {
@@ -20,30 +18,23 @@ public interface MethodFinder extends Serializable {
     }
 
     default Class<?> getContainingClass() {
-        try {
-            String className = serialized().getImplClass().replaceAll("/", ".");
-            return Class.forName(className);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return ResolvedLambda.of(this).containingClass();
     }
 
     default Method method() {
-        SerializedLambda lambda = serialized();
-        Class<?> containingClass = getContainingClass();
-        return asList(containingClass.getDeclaredMethods())
-                .stream()
-                .filter(method -> Objects.equals(method.getName(), lambda.getImplMethodName()))
-                .findFirst()
-                .orElseThrow(UnableToGuessMethodException::new);
+        return ResolvedLambda.of(this).method();
+    }
+
+    default MethodHandle invoker() {
+        return ResolvedLambda.of(this).invoker();
     }
 
     default Parameter parameter(int n) {
-        return method().getParameters()[n];
+        return ResolvedLambda.of(this).parameter(n);
     }
 
     default Object defaultValueForParameter(int n) {
-        return DefaultValue.ofType(parameter(n).getType());
+        return ResolvedLambda.of(this).defaultValueForParameter(n);
     }
 
     class UnableToGuessMethodException extends RuntimeException {}
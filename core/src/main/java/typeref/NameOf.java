@@ -0,0 +1,67 @@
+package typeref;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class NameOf {
+    private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final Function<Stream<StackWalker.StackFrame>, StackWalker.StackFrame> caller =
+            frames -> frames.skip(1).findFirst().orElseThrow();
+
+    private static final ClassValue<Map<String, Map<MethodType, List<String>>>> parameterNames = new ClassValue<>() {
+        protected Map<String, Map<MethodType, List<String>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public static void main(String... args) {
+        new NameOf().aMethod(null);
+    }
+    public void aMethod(String aParam) {
+        throw new NullPointerException(nameof(this::aMethod, 0));
+    }
+
+    public static <T> String nameof(NewableConsumer<T> method, int arg) {
+        return method.parameter(arg).getName();
+    }
+
+    public static String nameof(int arg) {
+        return parameterNames(walker.walk(caller)).get(arg);
+    }
+
+    public static List<String> namesof() {
+        return parameterNames(walker.walk(caller));
+    }
+
+    private static List<String> parameterNames(StackWalker.StackFrame frame) {
+        Map<String, Map<MethodType, List<String>>> byName = parameterNames.get(frame.getDeclaringClass());
+        Map<MethodType, List<String>> byType = byName.get(frame.getMethodName());
+        if (byType == null) {
+            byType = byName.computeIfAbsent(frame.getMethodName(), __ -> new ConcurrentHashMap<>());
+        }
+        List<String> names = byType.get(frame.getMethodType());
+        if (names == null) {
+            names = byType.computeIfAbsent(frame.getMethodType(), __ -> resolve(frame));
+        }
+        return names;
+    }
+
+    private static List<String> resolve(StackWalker.StackFrame frame) {
+        Class<?> cls = frame.getDeclaringClass();
+        MethodType type = frame.getMethodType();
+        try {
+            Executable executable = "<init>".equals(frame.getMethodName())
+                    ? cls.getDeclaredConstructor(type.parameterArray())
+                    : cls.getDeclaredMethod(frame.getMethodName(), type.parameterArray());
+            return Stream.of(executable.getParameters()).map(Parameter::getName).toList();
+        } catch (NoSuchMethodException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -5,8 +5,7 @@ import java.util.function.Function;
 
 public interface NamedValue<T> extends MethodFinder, Function<String, T> {
     default String name() {
-        checkParametersEnabled();
-        return parameter(0).getName();
+        return NamedValues.name(this);
     }
     default void checkParametersEnabled() {
         if (Objects.equals("arg0", parameter(0).getName())) {
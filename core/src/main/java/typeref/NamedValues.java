@@ -0,0 +1,180 @@
+package typeref;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class NamedValues {
+    private static final ClassValue<AtomicReference<String>> names = new ClassValue<>() {
+        protected AtomicReference<String> computeValue(Class<?> lambdaClass) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private static final ClassValue<AtomicReference<Layout>> layouts = new ClassValue<>() {
+        protected AtomicReference<Layout> computeValue(Class<?> firstLambdaClass) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private NamedValues() {}
+
+    @SafeVarargs
+    public static <T> Map<String, T> of(NamedValue<T>... namedValues) {
+        if (namedValues.length == 0) {
+            return Map.of();
+        }
+        Layout layout = layoutFor(namedValues);
+        Object[] values = new Object[namedValues.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = namedValues[i].apply(layout.keys[i]);
+        }
+        return new NamedValueMap<>(layout, values);
+    }
+
+    static String name(NamedValue<?> namedValue) {
+        AtomicReference<String> slot = names.get(namedValue.getClass());
+        String name = slot.get();
+        if (name == null) {
+            name = resolveName(namedValue);
+            slot.compareAndSet(null, name);
+        }
+        return name;
+    }
+
+    private static String resolveName(NamedValue<?> namedValue) {
+        Method method = namedValue.method();
+        int index = method.getParameterCount() - 1;
+        Parameter parameter = method.getParameters()[index];
+        String name = parameter.isNamePresent()
+                ? parameter.getName()
+                : LocalVariableNames.parameterName(method, index);
+        if (name == null) {
+            throw new IllegalStateException("No name recorded for parameter " + index + " of " + method
+                    + "; compile with javac -g so the LocalVariableTable keeps lambda parameter names");
+        }
+        return name;
+    }
+
+    private static Layout layoutFor(NamedValue<?>[] namedValues) {
+        AtomicReference<Layout> slot = layouts.get(namedValues[0].getClass());
+        Layout current = slot.get();
+        if (current != null && current.matches(namedValues)) {
+            return current;
+        }
+        Layout layout = new Layout(namedValues);
+        slot.compareAndSet(current, layout);
+        return layout;
+    }
+
+    private static final class Layout {
+        private final Class<?>[] lambdaClasses;
+        private final String[] keys;
+        private final int[] table;
+        private final int mask;
+
+        Layout(NamedValue<?>[] namedValues) {
+            this.lambdaClasses = new Class<?>[namedValues.length];
+            this.keys = new String[namedValues.length];
+            this.table = new int[Integer.highestOneBit(namedValues.length * 2 - 1) << 1];
+            this.mask = table.length - 1;
+            for (int i = 0; i < namedValues.length; i++) {
+                lambdaClasses[i] = namedValues[i].getClass();
+                keys[i] = name(namedValues[i]);
+                int slot = slotFor(keys[i]);
+                if (table[slot] != 0) {
+                    throw new IllegalArgumentException("Duplicate name " + keys[i]);
+                }
+                table[slot] = i + 1;
+            }
+        }
+
+        boolean matches(NamedValue<?>[] namedValues) {
+            if (namedValues.length != lambdaClasses.length) return false;
+            for (int i = 0; i < lambdaClasses.length; i++) {
+                if (namedValues[i].getClass() != lambdaClasses[i]) return false;
+            }
+            return true;
+        }
+
+        int indexOf(Object key) {
+            if (!(key instanceof String)) {
+                return -1;
+            }
+            return table[slotFor(key)] - 1;
+        }
+
+        private int slotFor(Object key) {
+            int h = key.hashCode();
+            int slot = (h ^ (h >>> 16)) & mask;
+            while (table[slot] != 0 && !keys[table[slot] - 1].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+    private static final class NamedValueMap<T> extends AbstractMap<String, T> {
+        private final Layout layout;
+        private final Object[] values;
+
+        NamedValueMap(Layout layout, Object[] values) {
+            this.layout = layout;
+            this.values = values;
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        public boolean containsKey(Object key) {
+            return layout.indexOf(key) >= 0;
+        }
+
+        public T get(Object key) {
+            int index = layout.indexOf(key);
+            return index < 0 ? null : (T) values[index];
+        }
+
+        public Set<Entry<String, T>> entrySet() {
+            return new AbstractSet<>() {
+                public int size() {
+                    return values.length;
+                }
+
+                public Iterator<Entry<String, T>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        public Entry<String, T> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int index = next++;
+                            return new SimpleImmutableEntry<>(layout.keys[index], (T) values[index]);
+                        }
+                    };
+                }
+            };
+        }
+
+        public int hashCode() {
+            int hash = 0;
+            for (int i = 0; i < values.length; i++) {
+                hash += layout.keys[i].hashCode() ^ Objects.hashCode(values[i]);
+            }
+            return hash;
+        }
+    }
+}
@@ -5,10 +5,9 @@ public interface Newable<T> extends MethodFinder {
         return (Class<T>)parameter(0).getType();
     }
     default T newInstance() {
-        try {
-            return type().newInstance();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return Instantiator.of(type()).newInstance();
+    }
+    default T copyOf(T prototype) {
+        return Instantiator.of(type()).copyOf(prototype);
     }
 }
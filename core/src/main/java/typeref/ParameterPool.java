@@ -0,0 +1,95 @@
+package typeref;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class ParameterPool<T> {
+    private static final ClassValue<ParameterPool<?>> pools = new ClassValue<>() {
+        protected ParameterPool<?> computeValue(Class<?> type) {
+            return new ParameterPool<>(Instantiator.of(type), stripesFor(Runtime.getRuntime().availableProcessors()));
+        }
+    };
+
+    private static final int probes = 4;
+
+    private final Instantiator<T> instantiator;
+    private final T template;
+    private final boolean resettable;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    ParameterPool(Instantiator<T> instantiator, int stripes) {
+        this.instantiator = instantiator;
+        this.template = instantiator.newInstance();
+        this.resettable = !instantiator.sharesState(template);
+        this.slots = new AtomicReferenceArray<>(stripes);
+        this.mask = stripes - 1;
+    }
+
+    public static <T> ParameterPool<T> of(Class<T> type) {
+        return (ParameterPool<T>) pools.get(type);
+    }
+
+    public T acquire() {
+        if (!resettable) {
+            return instantiator.newInstance();
+        }
+        int start = stripe();
+        for (int i = 0; i < probes; i++) {
+            T pooled = slots.getAndSet((start + i) & mask, null);
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+        return instantiator.newInstance();
+    }
+
+    public void release(T instance) {
+        if (!resettable) {
+            return;
+        }
+        instantiator.copyInto(template, instance);
+        int start = stripe();
+        for (int i = 0; i < probes; i++) {
+            if (slots.compareAndSet((start + i) & mask, null, instance)) {
+                return;
+            }
+        }
+    }
+
+    public Lease<T> lease() {
+        return new Lease<>(this, acquire());
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) * 0x9E3779B9 & mask;
+    }
+
+    private static int stripesFor(int processors) {
+        return Integer.highestOneBit(processors * 2 - 1) << 1;
+    }
+
+    public static final class Lease<T> implements AutoCloseable {
+        private final ParameterPool<T> pool;
+        private T instance;
+
+        private Lease(ParameterPool<T> pool, T instance) {
+            this.pool = pool;
+            this.instance = instance;
+        }
+
+        public T get() {
+            if (instance == null) {
+                throw new IllegalStateException("Lease already released");
+            }
+            return instance;
+        }
+
+        public void close() {
+            if (instance != null) {
+                pool.release(instance);
+                instance = null;
+            }
+        }
+    }
+}
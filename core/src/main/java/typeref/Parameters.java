@@ -0,0 +1,47 @@
+package typeref;
+
+import java.util.function.Consumer;
+
+public interface Parameters<T> extends NewableConsumer<T> {
+    default T get() {
+        T t = newInstance();
+        accept(t);
+        return t;
+    }
+
+    default T get(T prototype) {
+        T t = copyOf(prototype);
+        accept(t);
+        return t;
+    }
+
+    default void with(Consumer<T> action) {
+        action.accept(newInstance());
+    }
+
+    default void with(T prototype, Consumer<T> action) {
+        action.accept(copyOf(prototype));
+    }
+
+    default void withPooled(Consumer<T> action) {
+        ParameterPool<T> pool = ParameterPool.of(type());
+        T t = pool.acquire();
+        try {
+            accept(t);
+            action.accept(t);
+        } finally {
+            pool.release(t);
+        }
+    }
+
+    default ParameterPool.Lease<T> lease() {
+        ParameterPool.Lease<T> lease = ParameterPool.of(type()).lease();
+        try {
+            accept(lease.get());
+            return lease;
+        } catch (RuntimeException | Error e) {
+            lease.close();
+            throw e;
+        }
+    }
+}
\ No newline at end of file
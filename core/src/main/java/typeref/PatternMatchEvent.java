@@ -0,0 +1,27 @@
+package typeref;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("typeref.PatternMatch")
+@Label("Pattern Match")
+@Category("Record Mixins")
+@Description("Attempt to decompose one record, or a batch of values, into the parameters of a lambda")
+@StackTrace(false)
+public final class PatternMatchEvent extends Event {
+    @Label("Record Class")
+    public Class<?> recordClass;
+
+    @Label("Impl Method")
+    public String implMethod;
+
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Values")
+    public int values;
+}
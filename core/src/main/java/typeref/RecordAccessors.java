@@ -0,0 +1,115 @@
+package typeref;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class RecordAccessors {
+    private static final ClassValue<RecordAccessors> accessors = new ClassValue<>() {
+        protected RecordAccessors computeValue(Class<?> type) {
+            return new RecordAccessors(type);
+        }
+    };
+
+    private final Class<?> recordClass;
+    private final String[] names;
+    private final Class<?>[] types;
+    private final Function<Object, Object>[] getters;
+
+    private RecordAccessors(Class<?> recordClass) {
+        if (!recordClass.isRecord()) {
+            throw new IllegalArgumentException(recordClass + " is not a record");
+        }
+        this.recordClass = recordClass;
+        RecordComponent[] components = recordClass.getRecordComponents();
+        this.names = new String[components.length];
+        this.types = new Class<?>[components.length];
+        this.getters = new Function[components.length];
+        RecordCompanion<Record> companion = (RecordCompanion<Record>) RecordCompanions.companions.get(recordClass).orElse(null);
+        MethodHandles.Lookup lookup = Handles.lookupIn(recordClass);
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getName();
+            types[i] = components[i].getType();
+            getters[i] = companion != null
+                    ? generated(companion, i)
+                    : compile(lookup, components[i]);
+        }
+    }
+
+    public static RecordAccessors of(Class<?> recordClass) {
+        return accessors.get(recordClass);
+    }
+
+    public Class<?> recordClass() {
+        return recordClass;
+    }
+
+    public int size() {
+        return getters.length;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public Class<?> type(int index) {
+        return types[index];
+    }
+
+    public int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (Objects.equals(names[i], name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public <T> T get(Record record, int index) {
+        return (T) getters[index].apply(record);
+    }
+
+    public Function<Object, Object> getter(int index) {
+        return getters[index];
+    }
+
+    private static Function<Object, Object> compile(MethodHandles.Lookup lookup, RecordComponent component) {
+        try {
+            MethodHandle getter = lookup.unreflect(component.getAccessor());
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    getter,
+                    getter.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            return reflective(component);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Function<Object, Object> generated(RecordCompanion<Record> companion, int index) {
+        return record -> companion.component((Record) record, index);
+    }
+
+    private static Function<Object, Object> reflective(RecordComponent component) {
+        return record -> {
+            try {
+                return component.getAccessor().invoke(record);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package typeref;
+
+import java.util.Objects;
+
+public final class RecordChanges<R extends Record> {
+    private final R original;
+    private final RecordAccessors accessors;
+    private final Object[] values;
+    private final boolean[] changed;
+    private int changes;
+
+    private RecordChanges(R original) {
+        this.original = original;
+        this.accessors = RecordAccessors.of(original.getClass());
+        this.values = new Object[accessors.size()];
+        this.changed = new boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = accessors.get(original, i);
+        }
+    }
+
+    public static <R extends Record> RecordChanges<R> of(R original) {
+        return new RecordChanges<>(original);
+    }
+
+    public <T> RecordChanges<R> with(MethodAwareFunction<R, T> prop, T newValue) {
+        int index = accessors.indexOf(prop.method().getName());
+        if (index < 0) {
+            throw new IllegalArgumentException(prop.method().getName() + " is not a component of " + accessors.recordClass());
+        }
+        boolean differs = !Objects.equals(accessors.get(original, index), newValue);
+        if (differs != changed[index]) {
+            changed[index] = differs;
+            changes += differs ? 1 : -1;
+        }
+        values[index] = newValue;
+        return this;
+    }
+
+    public R apply() {
+        RecordConstructor<R> constructor = RecordConstructor.of((Class<R>) original.getClass());
+        return changes > 0
+                ? constructor.newInstance(values)
+                : constructor.reuse(original);
+    }
+}
@@ -0,0 +1,434 @@
+package typeref;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class RecordCodec<R extends Record> {
+    private static final ClassValue<RecordCodec<?>> codecs = new ClassValue<>() {
+        protected RecordCodec<?> computeValue(Class<?> type) {
+            return new RecordCodec<>((Class<? extends Record>) type);
+        }
+    };
+
+    private static final MethodHandle readBoolean;
+    private static final MethodHandle readNullable;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            readBoolean = lookup.findStatic(RecordCodec.class, "readBoolean", MethodType.methodType(boolean.class, ByteBuffer.class));
+            readNullable = lookup.findVirtual(NullableField.class, "read", MethodType.methodType(Object.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<R> type;
+    private final MethodHandle reader;
+    private final Field[] fields;
+    private final String schema;
+    private final long fingerprint;
+    private final int fixedWidth;
+
+    private RecordCodec(Class<R> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException(type + " is not a record");
+        }
+        this.type = type;
+        RecordComponent[] components = type.getRecordComponents();
+        MethodHandles.Lookup lookup = Handles.lookupIn(type);
+        this.fields = new Field[components.length];
+        int width = 0;
+        for (int i = 0; i < components.length; i++) {
+            fields[i] = field(lookup, components[i]);
+            width = width < 0 || fields[i].width() < 0 ? -1 : width + fields[i].width();
+        }
+        this.reader = reader(lookup, type, components, fields);
+        this.schema = schema(type, new StringBuilder(), new HashSet<>()).toString();
+        this.fingerprint = fnv1a(schema);
+        this.fixedWidth = width;
+    }
+
+    public static <R extends Record> RecordCodec<R> of(Class<R> type) {
+        return (RecordCodec<R>) codecs.get(type);
+    }
+
+    public Class<R> type() {
+        return type;
+    }
+
+    public String schema() {
+        return schema;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public int fixedWidth() {
+        return fixedWidth;
+    }
+
+    public void encode(R record, ByteBuffer buffer) {
+        buffer.putLong(fingerprint);
+        write(record, buffer);
+    }
+
+    public R decode(ByteBuffer buffer) {
+        long found = buffer.getLong();
+        if (found != fingerprint) {
+            throw new IllegalStateException("Schema fingerprint " + Long.toHexString(found) + " does not match " + type.getName());
+        }
+        return read(buffer);
+    }
+
+    public void write(R record, ByteBuffer buffer) {
+        try {
+            for (Field field : fields) {
+                field.write(record, buffer);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public R read(ByteBuffer buffer) {
+        try {
+            return (R) (Record) reader.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandle reader(MethodHandles.Lookup lookup, Class<?> type, RecordComponent[] components, Field[] fields) {
+        Class<?>[] componentTypes = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            componentTypes[i] = components[i].getType();
+        }
+        MethodHandle reader;
+        try {
+            reader = lookup.findConstructor(type, MethodType.methodType(void.class, componentTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        reader = MethodHandles.dropArguments(reader, componentTypes.length, ByteBuffer.class);
+        for (int i = componentTypes.length - 1; i >= 0; i--) {
+            reader = MethodHandles.foldArguments(reader, i, componentReader(componentTypes[i], fields[i]));
+        }
+        return reader.asType(MethodType.methodType(Record.class, ByteBuffer.class));
+    }
+
+    private static MethodHandle componentReader(Class<?> type, Field field) {
+        if (type == boolean.class) {
+            return readBoolean;
+        }
+        if (type.isPrimitive()) {
+            String primitive = type.getName();
+            String name = type == byte.class ? "get" : "get" + Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+            try {
+                return MethodHandles.lookup().findVirtual(ByteBuffer.class, name, MethodType.methodType(type));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return readNullable.bindTo(field).asType(MethodType.methodType(type, ByteBuffer.class));
+    }
+
+    private static boolean readBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+
+    private interface Field {
+        void write(Record record, ByteBuffer buffer) throws Throwable;
+        int width();
+    }
+
+    private static Field field(MethodHandles.Lookup lookup, RecordComponent component) {
+        Class<?> type = component.getType();
+        MethodHandle getter;
+        try {
+            getter = lookup.unreflect(component.getAccessor());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        MethodHandle typed = getter.asType(MethodType.methodType(type.isPrimitive() ? type : Object.class, Record.class));
+        if (type == boolean.class) return new BooleanField(typed);
+        if (type == byte.class) return new ByteField(typed);
+        if (type == short.class) return new ShortField(typed);
+        if (type == char.class) return new CharField(typed);
+        if (type == int.class) return new IntField(typed);
+        if (type == long.class) return new LongField(typed);
+        if (type == float.class) return new FloatField(typed);
+        if (type == double.class) return new DoubleField(typed);
+        return new NullableField(typed, value(type));
+    }
+
+    private interface Value {
+        void write(Object value, ByteBuffer buffer);
+        Object read(ByteBuffer buffer);
+        int width();
+    }
+
+    private static Value value(Class<?> type) {
+        if (type == Boolean.class) return new FixedValue(1, (v, b) -> b.put((byte) ((Boolean) v ? 1 : 0)), b -> b.get() != 0);
+        if (type == Byte.class) return new FixedValue(Byte.BYTES, (v, b) -> b.put((Byte) v), ByteBuffer::get);
+        if (type == Short.class) return new FixedValue(Short.BYTES, (v, b) -> b.putShort((Short) v), ByteBuffer::getShort);
+        if (type == Character.class) return new FixedValue(Character.BYTES, (v, b) -> b.putChar((Character) v), ByteBuffer::getChar);
+        if (type == Integer.class) return new FixedValue(Integer.BYTES, (v, b) -> b.putInt((Integer) v), ByteBuffer::getInt);
+        if (type == Long.class) return new FixedValue(Long.BYTES, (v, b) -> b.putLong((Long) v), ByteBuffer::getLong);
+        if (type == Float.class) return new FixedValue(Float.BYTES, (v, b) -> b.putFloat((Float) v), ByteBuffer::getFloat);
+        if (type == Double.class) return new FixedValue(Double.BYTES, (v, b) -> b.putDouble((Double) v), ByteBuffer::getDouble);
+        if (type == String.class) return new StringValue();
+        if (type.isEnum()) return new EnumValue(type.getEnumConstants());
+        if (type.isRecord()) return new RecordValue((Class<? extends Record>) type);
+        throw new IllegalArgumentException("No binary encoding for component type " + type.getName());
+    }
+
+    private record BooleanField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.put((byte) ((boolean) getter.invokeExact(record) ? 1 : 0));
+        }
+        public int width() {
+            return 1;
+        }
+    }
+
+    private record ByteField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.put((byte) getter.invokeExact(record));
+        }
+        public int width() {
+            return Byte.BYTES;
+        }
+    }
+
+    private record ShortField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putShort((short) getter.invokeExact(record));
+        }
+        public int width() {
+            return Short.BYTES;
+        }
+    }
+
+    private record CharField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putChar((char) getter.invokeExact(record));
+        }
+        public int width() {
+            return Character.BYTES;
+        }
+    }
+
+    private record IntField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putInt((int) getter.invokeExact(record));
+        }
+        public int width() {
+            return Integer.BYTES;
+        }
+    }
+
+    private record LongField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putLong((long) getter.invokeExact(record));
+        }
+        public int width() {
+            return Long.BYTES;
+        }
+    }
+
+    private record FloatField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putFloat((float) getter.invokeExact(record));
+        }
+        public int width() {
+            return Float.BYTES;
+        }
+    }
+
+    private record DoubleField(MethodHandle getter) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            buffer.putDouble((double) getter.invokeExact(record));
+        }
+        public int width() {
+            return Double.BYTES;
+        }
+    }
+
+    private record NullableField(MethodHandle getter, Value value) implements Field {
+        public void write(Record record, ByteBuffer buffer) throws Throwable {
+            Object v = (Object) getter.invokeExact(record);
+            if (v == null) {
+                buffer.put((byte) 0);
+                for (int i = 0; i < value.width(); i++) {
+                    buffer.put((byte) 0);
+                }
+            } else {
+                buffer.put((byte) 1);
+                value.write(v, buffer);
+            }
+        }
+        public Object read(ByteBuffer buffer) {
+            if (buffer.get() == 0) {
+                if (value.width() > 0) {
+                    buffer.position(buffer.position() + value.width());
+                }
+                return null;
+            }
+            return value.read(buffer);
+        }
+        public int width() {
+            return value.width() < 0 ? -1 : 1 + value.width();
+        }
+    }
+
+    private interface Writer {
+        void write(Object value, ByteBuffer buffer);
+    }
+
+    private interface Reader {
+        Object read(ByteBuffer buffer);
+    }
+
+    private record FixedValue(int width, Writer writer, Reader reader) implements Value {
+        public void write(Object value, ByteBuffer buffer) {
+            writer.write(value, buffer);
+        }
+        public Object read(ByteBuffer buffer) {
+            return reader.read(buffer);
+        }
+    }
+
+    private record StringValue() implements Value {
+        private static final ThreadLocal<CharsetEncoder> encoders = ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+        private static final ThreadLocal<CharsetDecoder> decoders = ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE));
+
+        public void write(Object value, ByteBuffer buffer) {
+            String string = (String) value;
+            int length = utf8Length(string);
+            while ((length & ~0x7f) != 0) {
+                buffer.put((byte) (length & 0x7f | 0x80));
+                length >>>= 7;
+            }
+            buffer.put((byte) length);
+            CharsetEncoder encoder = encoders.get().reset();
+            if (!encoder.encode(CharBuffer.wrap(string), buffer, true).isUnderflow() || !encoder.flush(buffer).isUnderflow()) {
+                throw new BufferOverflowException();
+            }
+        }
+        public Object read(ByteBuffer buffer) {
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get();
+                length |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int start = buffer.position();
+            ByteBuffer bytes = buffer.slice(start, length);
+            buffer.position(start + length);
+            try {
+                return decoders.get().decode(bytes).toString();
+            } catch (CharacterCodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        public int width() {
+            return -1;
+        }
+
+        private static int utf8Length(String string) {
+            int length = 0;
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < string.length() && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    length += 1;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+    }
+
+    private record EnumValue(Object[] constants) implements Value {
+        public void write(Object value, ByteBuffer buffer) {
+            buffer.putInt(((Enum<?>) value).ordinal());
+        }
+        public Object read(ByteBuffer buffer) {
+            return constants[buffer.getInt()];
+        }
+        public int width() {
+            return Integer.BYTES;
+        }
+    }
+
+    private record RecordValue(Class<? extends Record> type) implements Value {
+        public void write(Object value, ByteBuffer buffer) {
+            ((RecordCodec<Record>) RecordCodec.of(type)).write((Record) value, buffer);
+        }
+        public Object read(ByteBuffer buffer) {
+            return RecordCodec.of(type).read(buffer);
+        }
+        public int width() {
+            return -1;
+        }
+    }
+
+    private static StringBuilder schema(Class<?> type, StringBuilder schema, Set<Class<?>> visiting) {
+        schema.append(type.getName());
+        if (type.isEnum()) {
+            schema.append('{');
+            for (Object constant : type.getEnumConstants()) {
+                schema.append(((Enum<?>) constant).name()).append(',');
+            }
+            schema.append('}');
+        } else if (type.isRecord() && visiting.add(type)) {
+            schema.append('(');
+            for (RecordComponent component : type.getRecordComponents()) {
+                schema(component.getType(), schema, visiting).append(' ').append(component.getName()).append(',');
+            }
+            schema.append(')');
+            visiting.remove(type);
+        }
+        return schema;
+    }
+
+    private static long fnv1a(String schema) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : schema.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
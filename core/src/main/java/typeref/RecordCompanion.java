@@ -0,0 +1,10 @@
+package typeref;
+
+public interface RecordCompanion<R extends Record> {
+    Object component(R record, int index);
+    R construct(Object... args);
+
+    static <R extends Record> RecordCompanion<R> of(Class<R> recordClass) {
+        return (RecordCompanion<R>) RecordCompanions.companions.get(recordClass).orElse(null);
+    }
+}
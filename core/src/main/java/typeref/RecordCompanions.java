@@ -0,0 +1,33 @@
+package typeref;
+
+import java.util.Optional;
+
+final class RecordCompanions {
+    static final ClassValue<Optional<RecordCompanion<?>>> companions = new ClassValue<>() {
+        protected Optional<RecordCompanion<?>> computeValue(Class<?> recordClass) {
+            return Optional.ofNullable(find(recordClass));
+        }
+    };
+
+    private RecordCompanions() {}
+
+    static String companionName(Class<?> recordClass) {
+        String packageName = recordClass.getPackageName();
+        String nestedName = packageName.isEmpty()
+                ? recordClass.getName()
+                : recordClass.getName().substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + nestedName.replace('$', '_') + "Mixins";
+    }
+
+    private static RecordCompanion<?> find(Class<?> recordClass) {
+        try {
+            Class<?> companion = Class.forName(companionName(recordClass), true, recordClass.getClassLoader());
+            if (!RecordCompanion.class.isAssignableFrom(companion)) {
+                return null;
+            }
+            return (RecordCompanion<?>) companion.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package typeref;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("typeref.RecordConstruction")
+@Label("Record Construction")
+@Category("Record Mixins")
+@Description("Construction of a record from its components, or reuse of an unchanged original")
+@StackTrace(false)
+public final class RecordConstructionEvent extends Event {
+    @Label("Record Class")
+    public Class<?> recordClass;
+
+    @Label("Impl Method")
+    public String implMethod;
+
+    @Label("Cached")
+    public boolean cached;
+
+    @Label("Reused Instance")
+    public boolean reusedInstance;
+}
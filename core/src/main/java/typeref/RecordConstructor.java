@@ -0,0 +1,120 @@
+package typeref;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+public final class RecordConstructor<R> {
+    private static final ClassValue<RecordConstructor<?>> constructors = new ClassValue<>() {
+        protected RecordConstructor<?> computeValue(Class<?> type) {
+            return new RecordConstructor<>(type);
+        }
+    };
+
+    private final Class<R> type;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle constructor;
+    private final RecordCompanion<?> companion;
+    private final String implMethod;
+    private boolean warm;
+    private final ClassValue<Boolean> acceptsComponentsOf = new ClassValue<>() {
+        protected Boolean computeValue(Class<?> source) {
+            return source.isRecord() && accepts(RecordAccessors.of(source));
+        }
+    };
+
+    private RecordConstructor(Class<R> type) {
+        RecordAccessors components = RecordAccessors.of(type);
+        this.type = type;
+        this.companion = RecordCompanions.companions.get(type).orElse(null);
+        this.parameterTypes = new Class<?>[components.size()];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            parameterTypes[i] = components.type(i);
+        }
+        MethodType canonicalType = MethodType.methodType(void.class, parameterTypes);
+        try {
+            MethodHandle canonical = Handles.lookupIn(type).findConstructor(type, canonicalType);
+            this.constructor = canonical
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        this.implMethod = companion != null
+                ? companion.getClass().getName() + ".construct"
+                : type.getName() + ".<init>" + canonicalType.toMethodDescriptorString();
+    }
+
+    public static <R> RecordConstructor<R> of(Class<R> recordClass) {
+        return (RecordConstructor<R>) constructors.get(recordClass);
+    }
+
+    public Class<R> type() {
+        return type;
+    }
+
+    public int arity() {
+        return parameterTypes.length;
+    }
+
+    public Class<?> parameterType(int index) {
+        return parameterTypes[index];
+    }
+
+    public boolean acceptsComponentsOf(Class<?> source) {
+        return acceptsComponentsOf.get(source);
+    }
+
+    public R newInstance(Object... args) {
+        RecordConstructionEvent event = new RecordConstructionEvent();
+        event.begin();
+        boolean cached = warm;
+        if (!cached) {
+            warm = true;
+        }
+        R result = construct(args);
+        if (event.shouldCommit()) {
+            event.recordClass = type;
+            event.implMethod = implMethod;
+            event.cached = cached;
+            event.commit();
+        }
+        return result;
+    }
+
+    R reuse(R original) {
+        RecordConstructionEvent event = new RecordConstructionEvent();
+        if (event.shouldCommit()) {
+            event.recordClass = type;
+            event.implMethod = implMethod;
+            event.cached = warm;
+            event.reusedInstance = true;
+            event.commit();
+        }
+        return original;
+    }
+
+    private R construct(Object[] args) {
+        if (companion != null) {
+            return (R) companion.construct(args);
+        }
+        try {
+            return (R) constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private boolean accepts(RecordAccessors source) {
+        if (source.size() != parameterTypes.length) return false;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!accepts(parameterTypes[i], source.type(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean accepts(Class<?> parameterType, Class<?> componentType) {
+        return Handles.boxed(parameterType).isAssignableFrom(Handles.boxed(componentType));
+    }
+}
@@ -0,0 +1,139 @@
+package typeref;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+final class ResolvedLambda {
+    private static final ClassValue<AtomicReference<ResolvedLambda>> resolved = new ClassValue<>() {
+        protected AtomicReference<ResolvedLambda> computeValue(Class<?> lambdaClass) {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final Class<?> containingClass;
+    private final String implMethod;
+    private final Executable target;
+    private final MethodHandle invoker;
+    private final Parameter[] parameters;
+
+    private ResolvedLambda(Class<?> containingClass, String implMethod, Executable target, MethodHandle invoker) {
+        this.containingClass = containingClass;
+        this.implMethod = implMethod;
+        this.target = target;
+        this.invoker = invoker;
+        this.parameters = target == null ? new Parameter[0] : target.getParameters();
+    }
+
+    static ResolvedLambda of(MethodFinder lambda) {
+        LambdaResolutionEvent event = new LambdaResolutionEvent();
+        event.begin();
+        AtomicReference<ResolvedLambda> slot = resolved.get(lambda.getClass());
+        ResolvedLambda result = slot.get();
+        boolean cached = result != null;
+        if (!cached) {
+            result = resolve(lambda);
+            slot.compareAndSet(null, result);
+        }
+        if (event.shouldCommit()) {
+            event.implClass = result.containingClass;
+            event.implMethod = result.implMethod;
+            event.cached = cached;
+            event.commit();
+        }
+        return result;
+    }
+
+    private static ResolvedLambda resolve(MethodFinder lambda) {
+        SerializedLambda serialized = lambda.serialized();
+        ClassLoader loader = lambda.getClass().getClassLoader();
+        Class<?> containingClass;
+        try {
+            String className = serialized.getImplClass().replaceAll("/", ".");
+            containingClass = Class.forName(className, false, loader);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        String implMethod = containingClass.getName() + "." + serialized.getImplMethodName() + serialized.getImplMethodSignature();
+        try {
+            MethodHandles.Lookup lookup = Handles.lookupIn(containingClass);
+            MethodHandle invoker = findHandle(lookup, containingClass, serialized, loader);
+            Executable target = lookup.revealDirect(invoker).reflectAs(Executable.class, lookup);
+            return new ResolvedLambda(containingClass, implMethod, target, invoker);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            return new ResolvedLambda(containingClass, implMethod, findByDescriptor(containingClass, serialized), null);
+        }
+    }
+
+    private static MethodHandle findHandle(MethodHandles.Lookup lookup, Class<?> containingClass, SerializedLambda serialized, ClassLoader loader) throws ReflectiveOperationException {
+        String name = serialized.getImplMethodName();
+        MethodType type = MethodType.fromMethodDescriptorString(serialized.getImplMethodSignature(), loader);
+        return switch (serialized.getImplMethodKind()) {
+            case MethodHandleInfo.REF_invokeStatic -> lookup.findStatic(containingClass, name, type);
+            case MethodHandleInfo.REF_newInvokeSpecial -> lookup.findConstructor(containingClass, type);
+            case MethodHandleInfo.REF_invokeSpecial -> lookup.findSpecial(containingClass, name, type, lookup.lookupClass());
+            default -> lookup.findVirtual(containingClass, name, type);
+        };
+    }
+
+    private static Executable findByDescriptor(Class<?> containingClass, SerializedLambda serialized) {
+        String descriptor = serialized.getImplMethodSignature();
+        Executable[] candidates = serialized.getImplMethodKind() == MethodHandleInfo.REF_newInvokeSpecial
+                ? containingClass.getDeclaredConstructors()
+                : containingClass.getDeclaredMethods();
+        return Stream.of(candidates)
+                .filter(candidate -> candidate instanceof Method
+                        ? candidate.getName().equals(serialized.getImplMethodName())
+                        : "<init>".equals(serialized.getImplMethodName()))
+                .filter(candidate -> descriptor.equals(descriptorOf(candidate)))
+                .findFirst()
+                .orElseThrow(MethodFinder.UnableToGuessMethodException::new);
+    }
+
+    private static String descriptorOf(Executable candidate) {
+        Class<?> returnType = candidate instanceof Method method ? method.getReturnType() : void.class;
+        return MethodType.methodType(returnType, candidate.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    Class<?> containingClass() {
+        return containingClass;
+    }
+
+    Method method() {
+        if (target instanceof Method method) {
+            return method;
+        }
+        throw new MethodFinder.UnableToGuessMethodException();
+    }
+
+    MethodHandle invoker() {
+        if (invoker == null) {
+            throw new MethodFinder.UnableToGuessMethodException();
+        }
+        return invoker;
+    }
+
+    Parameter parameter(int n) {
+        target();
+        return parameters[n];
+    }
+
+    Object defaultValueForParameter(int n) {
+        target();
+        return DefaultValue.ofType(parameters[n].getType());
+    }
+
+    private Executable target() {
+        if (target == null) {
+            throw new MethodFinder.UnableToGuessMethodException();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,793 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.MethodFinder;
+import typeref.PatternMatchEvent;
+import typeref.RecordAccessors;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static com.benjiweber.recordmixins.DecomposeRecordsTest.If.withFallback;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DecomposeRecordsTest {
+
+    record Nums(Integer first, Integer last) {}
+    record Colour(Integer r, Integer g, Integer b) {}
+    record Wrapper(String value) {}
+    record Name(String first, String last) {}
+    record NameWithMiddle(String first, String middle, String last) {}
+
+    @Test
+    public void decompose_matching_types() {
+        AtomicReference<String> result = new AtomicReference<>("Fail");
+        Name name = new Name("Benji", "Weber");
+
+        If.instance(name, (String first, String last) -> {
+            result.set(first.toLowerCase() + last.toLowerCase());
+        });
+
+        assertEquals("benjiweber", result.get());
+    }
+
+    @Test
+    public void decompose_mismatching_types() {
+        AtomicReference<String> result = new AtomicReference<>("Nothing Happened");
+        Nums nums = new Nums(5,6);
+
+        If.instance(nums, (String first, String last) -> {
+            result.set(first.toLowerCase() + last.toLowerCase());
+        });
+
+        assertEquals("Nothing Happened", result.get());
+    }
+
+    @Test
+    public void decompose_matching_types_to_value() {
+        Name name = new Name("Benji", "Weber");
+
+        String result = withFallback("Fail").If.instance(name, (String first, String last) ->
+            first.toLowerCase() + last.toLowerCase()
+        );
+
+        assertEquals("benjiweber", result);
+    }
+
+    @Test
+    public void decompose_mismatching_types_to_value() {
+        Nums nums = new Nums(5,6);
+
+        String result = withFallback("Nothing").If.instance(nums, (String first, String last) ->
+                first.toLowerCase() + last.toLowerCase()
+        );
+
+        assertEquals("Nothing", result);
+    }
+
+    @Test
+    public void decompose_insufficient_arity_to_value() {
+        Wrapper wrapper = new Wrapper("Benji");
+
+        String result = withFallback("Nothing").If.instance(wrapper, (String first, String last) ->
+                first.toLowerCase() + last.toLowerCase()
+        );
+
+        assertEquals("Nothing", result);
+    }
+
+    @Test
+    public void decompose_surplus_arity_to_value() {
+        NameWithMiddle name = new NameWithMiddle("Benji", "???", "Weber");
+
+        String result = withFallback("Fail").If.instance(name, (String first, String middle) ->
+                first.toLowerCase() + middle.toLowerCase()
+        );
+
+        assertEquals("benji???", result);
+    }
+
+    @Test
+    public void decompose_null_component_to_value() {
+        Name name = new Name(null, "Weber");
+
+        String result = withFallback("Nothing").If.instance(name, (String first, String last) ->
+                first.toLowerCase() + last.toLowerCase()
+        );
+
+        assertEquals("Nothing", result);
+        assertEquals(Optional.empty(), Match.<String>cases().when((String first, String last) -> last).match(name));
+    }
+
+    @Test
+    public void decompose_matching_types_triple() {
+        AtomicReference<Integer> result = new AtomicReference<>(-1);
+        Colour c = new Colour(5,6,7);
+
+        If.instance(c, (Integer r, Integer g, Integer b) -> {
+            result.set(r + g + b);
+        });
+
+        assertEquals(Integer.valueOf(18), result.get());
+    }
+
+    @Test
+    public void decompose_matching_types_to_value_triple() {
+        Colour c = new Colour(5,6,7);
+
+        int result = withFallback(-1).If.instance(c, (Integer r, Integer g, Integer b) ->
+            r + g + b
+        );
+
+        assertEquals(18, result);
+    }
+
+    @Test
+    public void decompose_mismatching_types_triple() {
+        AtomicReference<String> result = new AtomicReference<>("Nothing Happened");
+        Colour c = new Colour(5,6,7);
+
+        If.instance(c, (String r, String g, String b) -> {
+            result.set(r.toLowerCase() + r.toLowerCase());
+        });
+
+        assertEquals("Nothing Happened", result.get());
+    }
+
+    @Test
+    public void decompose_mismatching_types_to_value_triple() {
+        Colour c = new Colour(5,6,7);
+
+        String result = withFallback("Expected").If.instance(c, (Integer r, String g, Integer b) ->
+            r + g + b
+        );
+
+        assertEquals("Expected", result);
+    }
+
+    @Test
+    public void decompose_supertypes() {
+        interface Animal { String noise(); }
+        record Duck(String noise) implements Animal {}
+        record Dog(String noise) implements Animal {}
+
+        record Zoo(Animal one, Animal two) {}
+
+        Zoo zoo = new Zoo(new Duck("Quack"), new Dog("Woof"));
+
+        String result = withFallback("Fail").If.instance(zoo, (Animal duck, Animal dog) ->
+                duck.noise() + dog.noise()
+        );
+
+        assertEquals("QuackWoof", result);
+    }
+
+    @Test
+    public void decompose_subtypes() {
+        interface Animal { String noise(); }
+        record Duck(String noise) implements Animal {}
+        record Dog(String noise) implements Animal {}
+
+        record Zoo(Animal one, Animal two) {}
+
+        Zoo zoo = new Zoo(new Duck("Quack"), new Dog("Woof"));
+
+        String result = withFallback("Fail").If.instance(zoo, (Duck duck, Dog dog) ->
+                duck.noise() + dog.noise()
+        );
+
+        assertEquals("QuackWoof", result);
+    }
+
+    @Test
+    public void decompose_subtypes_infer_lhs() {
+        interface Animal { String noise(); }
+        record Duck(String noise) implements Animal {}
+        record Dog(String noise) implements Animal {}
+
+        record Zoo(Animal one, Animal two) {}
+
+        Zoo zoo = new Zoo(new Duck("Quack"), new Dog("Woof"));
+
+        String result = withFallback("Fail").If.instance(zoo, (Duck duck, Dog dog) ->
+                duck.noise() + dog.noise()
+        );
+
+        assertEquals("QuackWoof", result);
+    }
+
+    @Test
+    public void decompose_mismatching_subtypes() {
+        interface Animal { String noise(); }
+        record Duck(String noise) implements Animal {}
+        record Dog(String noise) implements Animal {}
+
+        record Zoo(Animal one, Animal two) {}
+
+        Zoo zoo = new Zoo(new Duck("Quack"), new Dog("Woof"));
+
+        String result = withFallback("Fail").If.instance(zoo, (Dog duck, Duck dog) ->
+                duck.noise() + dog.noise()
+        );
+
+        assertEquals("Fail", result);
+    }
+
+
+    @Test
+    public void match_many_cases() {
+        Match.Cases<String> describe = Match.<String>cases()
+                .when((String first, String last) -> first + " " + last)
+                .when((Integer r, Integer g, Integer b) -> "rgb(" + r + "," + g + "," + b + ")")
+                .when((Integer first, Integer last) -> first + ".." + last);
+
+        assertEquals(Optional.of("Benji Weber"), describe.match(new Name("Benji", "Weber")));
+        assertEquals(Optional.of("rgb(5,6,7)"), describe.match(new Colour(5,6,7)));
+        assertEquals(Optional.of("5..6"), describe.match(new Nums(5,6)));
+        assertEquals(Optional.empty(), describe.match(new Wrapper("Benji")));
+        assertEquals(Optional.empty(), describe.match("Benji"));
+    }
+
+    @Test
+    public void match_many_cases_subtypes() {
+        interface Animal { String noise(); }
+        record Duck(String noise) implements Animal {}
+        record Dog(String noise) implements Animal {}
+
+        record Zoo(Animal one, Animal two) {}
+
+        Match.Cases<String> noises = Match.<String>cases()
+                .when((Dog dog, Duck duck) -> "dog first")
+                .when((Duck duck, Dog dog) -> "duck first")
+                .when((String first, String last) -> "never");
+
+        assertEquals(Optional.of("duck first"), noises.match(new Zoo(new Duck("Quack"), new Dog("Woof"))));
+        assertEquals(Optional.of("dog first"), noises.match(new Zoo(new Dog("Woof"), new Duck("Quack"))));
+        assertEquals(Optional.empty(), noises.match(new Zoo(new Dog("Woof"), new Dog("Woof"))));
+    }
+
+    @Test
+    public void match_plans_cached_per_record_class() {
+        MethodAwareBiFunction<String, String, String> action = (String first, String last) -> first + last;
+
+        MatchPlan mismatch = action.planFor(Nums.class);
+        assertFalse(mismatch.possible());
+        assertSame(mismatch, action.planFor(Nums.class));
+        assertTrue(action.planFor(Name.class).possible());
+        assertFalse(action.planFor(Wrapper.class).possible());
+    }
+
+    @Test
+    public void instance_all_in_input_order() {
+        List<Object> values = List.of(new Name("Benji", "Weber"), new Nums(5, 6), "not a record", new NameWithMiddle("a", "b", "c"));
+
+        List<Optional<String>> results = If.instanceAll(values, (String first, String last) -> first + last);
+
+        assertEquals(List.of(Optional.of("BenjiWeber"), Optional.empty(), Optional.empty(), Optional.of("ab")), results);
+    }
+
+    @Test
+    public void instance_all_with_fallback_in_parallel() {
+        List<Record> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i % 3 == 0 ? new Nums(i, i) : i % 3 == 1 ? new Colour(i, i, i) : new Name("n", String.valueOf(i)));
+        }
+
+        List<Integer> sums = withFallback(-1).If.instanceAll(values, (Integer first, Integer last) -> first + last);
+
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(withFallback(-1).If.instance(values.get(i), (Integer first, Integer last) -> first + last), sums.get(i));
+        }
+    }
+
+    @Test
+    public void instance_all_consumer_runs_in_order_on_caller() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(i % 2 == 0 ? new Colour(i, 1, 2) : "not a record");
+        }
+        List<Integer> reds = new ArrayList<>();
+        Set<Thread> threads = new HashSet<>();
+
+        If.instanceAll(values, (Integer r, Integer g, Integer b) -> {
+            reds.add(r);
+            threads.add(Thread.currentThread());
+        });
+
+        assertEquals(IntStream.range(0, 20_000).filter(i -> i % 2 == 0).boxed().toList(), reds);
+        assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    interface ParamTypeAware extends MethodFinder {
+        default Class<?> paramType(int n) {
+            return MatchPlans.of(this).paramTypes[n];
+        }
+        int expectedParamCount();
+        default MatchPlan planFor(Class<?> recordClass) {
+            return MatchPlans.of(this).get(recordClass);
+        }
+
+    }
+
+    static final class MatchPlans extends ClassValue<MatchPlan> {
+        private static final ClassValue<AtomicReference<MatchPlans>> byLambdaClass = new ClassValue<>() {
+            protected AtomicReference<MatchPlans> computeValue(Class<?> lambdaClass) {
+                return new AtomicReference<>();
+            }
+        };
+
+        private final Class<?>[] paramTypes;
+        private final String implMethod;
+        private final AtomicInteger computed = new AtomicInteger();
+
+        private MatchPlans(Class<?>[] paramTypes, String implMethod) {
+            this.paramTypes = paramTypes;
+            this.implMethod = implMethod;
+        }
+
+        static MatchPlans of(ParamTypeAware action) {
+            AtomicReference<MatchPlans> slot = byLambdaClass.get(action.getClass());
+            MatchPlans plans = slot.get();
+            if (plans == null) {
+                Method method = action.method();
+                Class<?>[] types = new Class<?>[action.expectedParamCount()];
+                int offset = method.getParameterCount() - types.length;
+                for (int n = 0; n < types.length; n++) {
+                    types[n] = method.getParameterTypes()[offset + n];
+                }
+                slot.compareAndSet(null, new MatchPlans(types, method.getDeclaringClass().getName() + "." + method.getName()));
+                plans = slot.get();
+            }
+            return plans;
+        }
+
+        static PatternMatchEvent attempt() {
+            PatternMatchEvent event = new PatternMatchEvent();
+            event.begin();
+            return event;
+        }
+
+        int computed(PatternMatchEvent event) {
+            return event.isEnabled() ? computed.get() : 0;
+        }
+
+        void attempted(PatternMatchEvent event, Class<?> recordClass, int computedBefore, int values) {
+            if (event.shouldCommit()) {
+                commit(event, recordClass, implMethod, computed.get() == computedBefore, values);
+            }
+        }
+
+        static void commit(PatternMatchEvent event, Class<?> recordClass, String implMethod, boolean cached, int values) {
+            event.recordClass = recordClass;
+            event.implMethod = implMethod;
+            event.cached = cached;
+            event.values = values;
+            event.commit();
+        }
+
+        protected MatchPlan computeValue(Class<?> recordClass) {
+            computed.incrementAndGet();
+            if (!recordClass.isRecord()) {
+                return MatchPlan.impossible(paramTypes);
+            }
+            RecordAccessors components = RecordAccessors.of(recordClass);
+            if (components.size() < paramTypes.length) {
+                return MatchPlan.impossible(paramTypes);
+            }
+            boolean[] checks = new boolean[paramTypes.length];
+            for (int n = 0; n < paramTypes.length; n++) {
+                Class<?> componentType = MethodType.methodType(components.type(n)).wrap().returnType();
+                if (!MatchPlan.couldHold(paramTypes[n], componentType)) {
+                    return MatchPlan.impossible(paramTypes);
+                }
+                checks[n] = !paramTypes[n].isAssignableFrom(componentType);
+            }
+            return new MatchPlan(true, components, paramTypes, checks);
+        }
+    }
+
+    record MatchPlan(boolean possible, RecordAccessors components, Class<?>[] paramTypes, boolean[] checks) {
+        static MatchPlan impossible(Class<?>[] paramTypes) {
+            return new MatchPlan(false, null, paramTypes, new boolean[paramTypes.length]);
+        }
+
+        Object component(Record r, int n) {
+            return components.get(r, n);
+        }
+
+        boolean accepts(int n, Object value) {
+            return value != null && (!checks[n] || paramTypes[n].isInstance(value));
+        }
+
+        static boolean couldHold(Class<?> paramType, Class<?> componentType) {
+            return paramType.isAssignableFrom(componentType)
+                    || componentType.isAssignableFrom(paramType)
+                    || (componentType.isInterface() && !Modifier.isFinal(paramType.getModifiers()))
+                    || (paramType.isInterface() && !Modifier.isFinal(componentType.getModifiers()));
+        }
+    }
+
+    static final class InstanceAll extends RecursiveAction {
+        private static final int leafSize = 4096;
+
+        interface Attempt {
+            Object attempt(Record r, MatchPlan plan);
+        }
+
+        private final Object[] values;
+        private final Object[] results;
+        private final int from;
+        private final int to;
+        private final MatchPlans plans;
+        private final Attempt attempt;
+        private final Object miss;
+
+        private InstanceAll(Object[] values, Object[] results, int from, int to, MatchPlans plans, Attempt attempt, Object miss) {
+            this.values = values;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.plans = plans;
+            this.attempt = attempt;
+            this.miss = miss;
+        }
+
+        static <TResult> List<TResult> run(Collection<?> values, ParamTypeAware action, Attempt attempt, TResult miss) {
+            PatternMatchEvent event = MatchPlans.attempt();
+            Object[] array = values.toArray();
+            Object[] results = new Object[array.length];
+            MatchPlans plans = MatchPlans.of(action);
+            int computed = plans.computed(event);
+            new InstanceAll(array, results, 0, array.length, plans, attempt, miss).invoke();
+            plans.attempted(event, null, computed, array.length);
+            return Collections.unmodifiableList(Arrays.asList((TResult[]) results));
+        }
+
+        static void runInOrder(Collection<?> values, ParamTypeAware action, Attempt attempt) {
+            PatternMatchEvent event = MatchPlans.attempt();
+            Object[] array = values.toArray();
+            MatchPlans plans = MatchPlans.of(action);
+            int computed = plans.computed(event);
+            new InstanceAll(array, null, 0, array.length, plans, attempt, null).match();
+            plans.attempted(event, null, computed, array.length);
+        }
+
+        protected void compute() {
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                invokeAll(
+                        new InstanceAll(values, results, from, mid, plans, attempt, miss),
+                        new InstanceAll(values, results, mid, to, plans, attempt, miss));
+                return;
+            }
+            match();
+        }
+
+        private void match() {
+            Map<Class<?>, MatchPlan> leafPlans = new IdentityHashMap<>();
+            for (int i = from; i < to; i++) {
+                Object result = miss;
+                if (values[i] instanceof Record r) {
+                    MatchPlan plan = leafPlans.get(r.getClass());
+                    if (plan == null) {
+                        plan = plans.get(r.getClass());
+                        leafPlans.put(r.getClass(), plan);
+                    }
+                    if (plan.possible()) {
+                        result = attempt.attempt(r, plan);
+                    }
+                }
+                if (results != null) {
+                    results[i] = result;
+                }
+            }
+        }
+    }
+
+    interface MethodAwareBiFunction<L,R,TResult> extends BiFunction<L,R,TResult>, ParamTypeAware {
+        default Optional<TResult> tryApply(L left, R right) {
+            return acceptsTypes(left, right)
+                    ? Optional.ofNullable(apply(left, right))
+                    : Optional.empty();
+        }
+
+        default Optional<TResult> tryApply(Record r, MatchPlan plan) {
+            if (!plan.possible()) {
+                return Optional.empty();
+            }
+            Object left = plan.component(r, 0);
+            Object right = plan.component(r, 1);
+            return plan.accepts(0, left) && plan.accepts(1, right)
+                    ? Optional.ofNullable(apply((L) left, (R) right))
+                    : Optional.empty();
+        }
+
+        default boolean acceptsTypes(Object left, Object right) {
+            Class<?>[] types = MatchPlans.of(this).paramTypes;
+            return types[0].isAssignableFrom(left.getClass())
+                    && types[1].isAssignableFrom(right.getClass());
+        }
+        default int expectedParamCount() { return 2; }
+    }
+
+    interface MethodAwareBiConsumer<L,R> extends BiConsumer<L,R>, ParamTypeAware {
+        default void tryAccept(L left, R right) {
+            if (acceptsTypes(left,right)) {
+                accept(left, right);
+            }
+        }
+
+        default void tryAccept(Record r, MatchPlan plan) {
+            if (!plan.possible()) {
+                return;
+            }
+            Object left = plan.component(r, 0);
+            Object right = plan.component(r, 1);
+            if (plan.accepts(0, left) && plan.accepts(1, right)) {
+                accept((L) left, (R) right);
+            }
+        }
+
+        default boolean acceptsTypes(Object left, Object right) {
+            Class<?>[] types = MatchPlans.of(this).paramTypes;
+            return types[0].isAssignableFrom(left.getClass())
+                    && types[1].isAssignableFrom(right.getClass());
+        }
+        default int expectedParamCount() { return 2; }
+    }
+
+    interface TriFunction<T,U,V,R> {
+        R apply(T t, U u, V v);
+    }
+    interface MethodAwareTriFunction<T,U,V,TResult> extends TriFunction<T,U,V,TResult>, ParamTypeAware {
+        default Optional<TResult> tryApply(T one, U two, V three) {
+            return acceptsTypes(one, two, three)
+                    ? Optional.ofNullable(apply(one, two, three))
+                    : Optional.empty();
+        }
+
+        default Optional<TResult> tryApply(Record r, MatchPlan plan) {
+            if (!plan.possible()) {
+                return Optional.empty();
+            }
+            Object one = plan.component(r, 0);
+            Object two = plan.component(r, 1);
+            Object three = plan.component(r, 2);
+            return plan.accepts(0, one) && plan.accepts(1, two) && plan.accepts(2, three)
+                    ? Optional.ofNullable(apply((T) one, (U) two, (V) three))
+                    : Optional.empty();
+        }
+
+        default boolean acceptsTypes(Object one, Object two, Object three) {
+            Class<?>[] types = MatchPlans.of(this).paramTypes;
+            return types[0].isAssignableFrom(one.getClass())
+                    && types[1].isAssignableFrom(two.getClass())
+                    && types[2].isAssignableFrom(three.getClass());
+        }
+        default int expectedParamCount() { return 3; }
+    }
+
+    interface TriConsumer<T,U,V> {
+        void accept(T t, U u, V v);
+    }
+    interface MethodAwareTriConsumer<T,U,V> extends TriConsumer<T,U,V>, ParamTypeAware {
+        default void tryAccept(T one, U two, V three) {
+            if (acceptsTypes(one, two, three)) {
+                accept(one, two, three);
+            }
+        }
+
+        default void tryAccept(Record r, MatchPlan plan) {
+            if (!plan.possible()) {
+                return;
+            }
+            Object one = plan.component(r, 0);
+            Object two = plan.component(r, 1);
+            Object three = plan.component(r, 2);
+            if (plan.accepts(0, one) && plan.accepts(1, two) && plan.accepts(2, three)) {
+                accept((T) one, (U) two, (V) three);
+            }
+        }
+
+        default boolean acceptsTypes(Object one, Object two, Object three) {
+            Class<?>[] types = MatchPlans.of(this).paramTypes;
+            return types[0].isAssignableFrom(one.getClass())
+                    && types[1].isAssignableFrom(two.getClass())
+                    && types[2].isAssignableFrom(three.getClass());
+        }
+        default int expectedParamCount() { return 3; }
+    }
+    abstract static class Match<TResult> {
+        public final Match<TResult> If = this;
+        public abstract <L,R> TResult instance(Object toMatch, MethodAwareBiFunction<L,R,TResult> action);
+        public abstract <T,U,V> TResult instance(Object toMatch, MethodAwareTriFunction<T,U,V,TResult> action);
+        public abstract <L,R> List<TResult> instanceAll(Collection<?> toMatch, MethodAwareBiFunction<L,R,TResult> action);
+        public abstract <T,U,V> List<TResult> instanceAll(Collection<?> toMatch, MethodAwareTriFunction<T,U,V,TResult> action);
+
+        static <TResult> Cases<TResult> cases() {
+            return new Cases<>(List.of());
+        }
+
+        static final class Cases<TResult> {
+            private final List<Case<TResult>> cases;
+            private final AtomicInteger dispatches = new AtomicInteger();
+            private final ClassValue<Dispatch<TResult>> dispatch = new ClassValue<>() {
+                protected Dispatch<TResult> computeValue(Class<?> recordClass) {
+                    dispatches.incrementAndGet();
+                    return new Dispatch<>(cases.stream()
+                            .map(c -> new PlannedCase<>(c, c.action().planFor(recordClass)))
+                            .filter(planned -> planned.plan().possible())
+                            .toList());
+                }
+            };
+
+            private Cases(List<Case<TResult>> cases) {
+                this.cases = cases;
+            }
+
+            public <L,R> Cases<TResult> when(MethodAwareBiFunction<L,R,TResult> action) {
+                return add(new BiCase<>(action));
+            }
+
+            public <T,U,V> Cases<TResult> when(MethodAwareTriFunction<T,U,V,TResult> action) {
+                return add(new TriCase<>(action));
+            }
+
+            public Optional<TResult> match(Object o) {
+                if (!(o instanceof Record r)) {
+                    return Optional.empty();
+                }
+                PatternMatchEvent event = MatchPlans.attempt();
+                int computed = event.isEnabled() ? dispatches.get() : 0;
+                Dispatch<TResult> candidates = dispatch.get(r.getClass());
+                for (PlannedCase<TResult> candidate : candidates.cases()) {
+                    Optional<TResult> result = candidate.c().tryApply(r, candidate.plan());
+                    if (result.isPresent()) {
+                        attempted(event, r.getClass(), candidate.c().action(), computed);
+                        return result;
+                    }
+                }
+                attempted(event, r.getClass(), null, computed);
+                return Optional.empty();
+            }
+
+            private void attempted(PatternMatchEvent event, Class<?> recordClass, ParamTypeAware matched, int computedBefore) {
+                if (event.shouldCommit()) {
+                    String implMethod = matched == null ? null : MatchPlans.of(matched).implMethod;
+                    MatchPlans.commit(event, recordClass, implMethod, dispatches.get() == computedBefore, 1);
+                }
+            }
+
+            private Cases<TResult> add(Case<TResult> c) {
+                MatchPlans.of(c.action());
+                List<Case<TResult>> added = new ArrayList<>(cases);
+                added.add(c);
+                return new Cases<>(List.copyOf(added));
+            }
+        }
+
+        private record Dispatch<TResult>(List<PlannedCase<TResult>> cases) {}
+
+        private record PlannedCase<TResult>(Case<TResult> c, MatchPlan plan) {}
+
+        private interface Case<TResult> {
+            ParamTypeAware action();
+            Optional<TResult> tryApply(Record r, MatchPlan plan);
+        }
+
+        private record BiCase<L,R,TResult>(MethodAwareBiFunction<L,R,TResult> action) implements Case<TResult> {
+            public Optional<TResult> tryApply(Record r, MatchPlan plan) {
+                return action.tryApply(r, plan);
+            }
+        }
+
+        private record TriCase<T,U,V,TResult>(MethodAwareTriFunction<T,U,V,TResult> action) implements Case<TResult> {
+            public Optional<TResult> tryApply(Record r, MatchPlan plan) {
+                return action.tryApply(r, plan);
+            }
+        }
+    }
+    interface If {
+        static <TResult> Match<TResult> withFallback(TResult defaultResult) {
+            return new Match<>() {
+                public <L, R> TResult instance(Object toMatch, MethodAwareBiFunction<L, R, TResult> action) {
+                    return DecomposeRecordsTest.If.instance(toMatch, action).orElse(defaultResult);
+                }
+
+                public <T, U, V> TResult instance(Object toMatch, MethodAwareTriFunction<T, U, V, TResult> action) {
+                    return DecomposeRecordsTest.If.instance(toMatch, action).orElse(defaultResult);
+                }
+
+                public <L, R> List<TResult> instanceAll(Collection<?> toMatch, MethodAwareBiFunction<L, R, TResult> action) {
+                    return InstanceAll.run(toMatch, action, (r, plan) -> action.tryApply(r, plan).orElse(defaultResult), defaultResult);
+                }
+
+                public <T, U, V> List<TResult> instanceAll(Collection<?> toMatch, MethodAwareTriFunction<T, U, V, TResult> action) {
+                    return InstanceAll.run(toMatch, action, (r, plan) -> action.tryApply(r, plan).orElse(defaultResult), defaultResult);
+                }
+            };
+        }
+        static <L, R> void instanceAll(Collection<?> values, MethodAwareBiConsumer<L, R> action) {
+            InstanceAll.runInOrder(values, action, (r, plan) -> {
+                action.tryAccept(r, plan);
+                return null;
+            });
+        }
+        static <T,U,V> void instanceAll(Collection<?> values, MethodAwareTriConsumer<T,U,V> action) {
+            InstanceAll.runInOrder(values, action, (r, plan) -> {
+                action.tryAccept(r, plan);
+                return null;
+            });
+        }
+        static <L, R, TResult> List<Optional<TResult>> instanceAll(Collection<?> values, MethodAwareBiFunction<L, R, TResult> action) {
+            return InstanceAll.run(values, action, action::tryApply, Optional.empty());
+        }
+        static <T,U,V,TResult> List<Optional<TResult>> instanceAll(Collection<?> values, MethodAwareTriFunction<T,U,V,TResult> action) {
+            return InstanceAll.run(values, action, action::tryApply, Optional.empty());
+        }
+        static <L, R> void instance(Object o, MethodAwareBiConsumer<L, R> action) {
+            if (o instanceof Record r) {
+                PatternMatchEvent event = MatchPlans.attempt();
+                MatchPlans plans = MatchPlans.of(action);
+                int computed = plans.computed(event);
+                MatchPlan plan = plans.get(r.getClass());
+                action.tryAccept(r, plan);
+                plans.attempted(event, r.getClass(), computed, 1);
+            }
+        }
+        static <T,U,V> void instance(Object o, MethodAwareTriConsumer<T,U,V> action) {
+            if (o instanceof Record r) {
+                PatternMatchEvent event = MatchPlans.attempt();
+                MatchPlans plans = MatchPlans.of(action);
+                int computed = plans.computed(event);
+                MatchPlan plan = plans.get(r.getClass());
+                action.tryAccept(r, plan);
+                plans.attempted(event, r.getClass(), computed, 1);
+            }
+        }
+        static <L, R, TResult> Optional<TResult> instance(Object o, MethodAwareBiFunction<L, R, TResult> action) {
+            if (o instanceof Record r) {
+                PatternMatchEvent event = MatchPlans.attempt();
+                MatchPlans plans = MatchPlans.of(action);
+                int computed = plans.computed(event);
+                MatchPlan plan = plans.get(r.getClass());
+                Optional<TResult> result = action.tryApply(r, plan);
+                plans.attempted(event, r.getClass(), computed, 1);
+                return result;
+            }
+            return Optional.empty();
+        }
+        static <T,U,V,TResult> Optional<TResult> instance(Object o, MethodAwareTriFunction<T,U,V,TResult> action) {
+            if (o instanceof Record r) {
+                PatternMatchEvent event = MatchPlans.attempt();
+                MatchPlans plans = MatchPlans.of(action);
+                int computed = plans.computed(event);
+                MatchPlan plan = plans.get(r.getClass());
+                Optional<TResult> result = action.tryApply(r, plan);
+                plans.attempted(event, r.getClass(), computed, 1);
+                return result;
+            }
+            return Optional.empty();
+        }
+    }
+}
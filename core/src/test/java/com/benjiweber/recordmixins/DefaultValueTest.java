@@ -0,0 +1,86 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.DefaultValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DefaultValueTest {
+
+    record Point(int x, int y) {}
+    record Line(Point from, Point to, List<String> labels) {}
+    record Node(String name, Node next) {}
+    record Basket(String owner, ArrayList<String> items) {}
+    record Positive(int value) {
+        Positive {
+            if (value <= 0) throw new IllegalArgumentException();
+        }
+    }
+
+    @Test
+    public void primitives_and_boxes() {
+        assertEquals((byte) 0, (byte) DefaultValue.<Byte>ofType(byte.class));
+        assertEquals(Byte.valueOf((byte) 0), DefaultValue.ofType(Byte.class));
+        assertEquals(0L, (long) DefaultValue.<Long>ofType(long.class));
+        assertEquals(Short.valueOf((short) 0), DefaultValue.ofType(Short.class));
+        assertNull(DefaultValue.ofType(String.class));
+        assertEquals('\0', (char) DefaultValue.<Character>ofType(char.class));
+        assertEquals(Character.valueOf('\0'), DefaultValue.ofType(Character.class));
+    }
+
+    @Test
+    public void concrete_collections_are_fresh_and_empty() {
+        ArrayList<String> first = DefaultValue.ofType(ArrayList.class);
+        ArrayList<String> second = DefaultValue.ofType(ArrayList.class);
+        first.add("leaked");
+
+        assertEquals(List.of(), second);
+        assertNotSame(first, second);
+        assertEquals(Map.of(), DefaultValue.ofType(HashMap.class));
+        assertEquals(Set.of(), DefaultValue.ofType(TreeSet.class));
+    }
+
+    @Test
+    public void records_with_mutable_components_are_fresh() {
+        Basket first = DefaultValue.ofType(Basket.class);
+        first.items().add("leaked");
+
+        assertEquals(new Basket(null, new ArrayList<>()), DefaultValue.ofType(Basket.class));
+    }
+
+    @Test
+    public void empty_containers() {
+        assertArrayEquals(new int[0], DefaultValue.ofType(int[].class));
+        assertEquals(Optional.empty(), DefaultValue.ofType(Optional.class));
+        assertEquals(OptionalInt.empty(), DefaultValue.ofType(OptionalInt.class));
+        assertEquals(List.of(), DefaultValue.ofType(List.class));
+        assertEquals(Set.of(), DefaultValue.ofType(Set.class));
+        assertEquals(Map.of(), DefaultValue.ofType(Map.class));
+    }
+
+    @Test
+    public void nested_records() {
+        assertEquals(new Line(new Point(0, 0), new Point(0, 0), List.of()), DefaultValue.ofType(Line.class));
+        assertEquals(new Node(null, null), DefaultValue.ofType(Node.class));
+        assertNull(DefaultValue.ofType(Positive.class));
+    }
+
+    @Test
+    public void defaults_cached_per_type() {
+        assertSame(DefaultValue.ofType(Line.class), DefaultValue.ofType(Line.class));
+        assertSame(DefaultValue.ofType(long[].class), DefaultValue.ofType(long[].class));
+    }
+}
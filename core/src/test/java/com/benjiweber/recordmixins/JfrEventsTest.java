@@ -0,0 +1,122 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.DecomposeRecordsTest.If;
+import com.benjiweber.recordmixins.DecomposeRecordsTest.Match;
+import com.benjiweber.recordmixins.DecomposeRecordsTest.Name;
+import com.benjiweber.recordmixins.DecomposeRecordsTest.Nums;
+import com.benjiweber.recordmixins.RecordTuplesTest.TriTuple;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class JfrEventsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void resolution_and_construction_events() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            for (int i = 0; i < 2; i++) {
+                new Shade(1, 2, 3).with(Shade::blue, 9);
+                new Shade(1, 2, 3).with(Shade::blue, 3);
+            }
+        });
+
+        List<RecordedEvent> resolutions = named(events, "typeref.LambdaResolution");
+        List<RecordedEvent> constructions = named(events, "typeref.RecordConstruction");
+
+        assertEquals(List.of(false, false, true, true), flags(resolutions, "cached"));
+        assertEquals(Shade.class.getName(), resolutions.get(0).getClass("implClass").getName());
+        assertEquals(List.of(false, true, true, true), flags(constructions, "cached"));
+        assertEquals(List.of(false, true, false, true), flags(constructions, "reusedInstance"));
+        assertEquals(Shade.class.getName(), constructions.get(0).getClass("recordClass").getName());
+    }
+
+    @Test
+    public void pattern_match_events() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            for (int i = 0; i < 2; i++) {
+                If.instance(new Name("Benji", "Weber"), (String first, String last) -> first.length() + last.length());
+            }
+        });
+
+        List<RecordedEvent> matches = named(events, "typeref.PatternMatch");
+
+        assertEquals(2, matches.size());
+        assertEquals(false, matches.get(0).getBoolean("cached"));
+        assertEquals(true, matches.get(1).getBoolean("cached"));
+        assertEquals(Name.class.getName(), matches.get(1).getClass("recordClass").getName());
+        assertEquals(1, named(events, "typeref.LambdaResolution").size());
+    }
+
+    @Test
+    public void pattern_match_events_cached_per_record_class() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            for (Object value : List.of(new Name("Benji", "Weber"), new Nums(1, 2), new Name("Sam", "Smith"), new Nums(3, 4))) {
+                If.instance(value, (Object first, Object last) -> first.hashCode() + last.hashCode());
+            }
+        });
+
+        assertEquals(List.of(false, false, true, true), flags(named(events, "typeref.PatternMatch"), "cached"));
+    }
+
+    @Test
+    public void cases_and_bulk_match_events() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Match.Cases<String> cases = Match.<String>cases().when((String first, String last) -> first + last);
+            cases.match(new Name("Benji", "Weber"));
+            cases.match(new Name("Benji", "Weber"));
+            If.instanceAll(List.of(new Name("a", "b"), new Nums(1, 2), "c"), (String first, String last) -> first + last);
+        });
+
+        List<RecordedEvent> matches = named(events, "typeref.PatternMatch");
+
+        assertEquals(3, matches.size());
+        assertEquals(false, matches.get(0).getBoolean("cached"));
+        assertEquals(true, matches.get(1).getBoolean("cached"));
+        assertEquals(Name.class.getName(), matches.get(1).getClass("recordClass").getName());
+        assertEquals(3, matches.get(2).getInt("values"));
+        assertEquals(false, matches.get(2).getBoolean("cached"));
+    }
+
+    private static List<Boolean> flags(List<RecordedEvent> events, String field) {
+        return events.stream()
+                .map(e -> e.getBoolean(field))
+                .collect(Collectors.toList());
+    }
+
+    private List<RecordedEvent> record(Runnable work) throws IOException {
+        Path file = folder.newFile("events.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("typeref.LambdaResolution", "typeref.RecordConstruction", "typeref.PatternMatch")) {
+                recording.enable(event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    record Shade(int red, int green, int blue) implements TriTuple<Shade, Integer, Integer, Integer> {}
+}
@@ -0,0 +1,251 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.RecordMixinsTest.EnhancedList;
+import com.benjiweber.recordmixins.RecordMixinsTest.Filterable;
+import com.benjiweber.recordmixins.RecordMixinsTest.ForwardingList;
+import com.benjiweber.recordmixins.RecordMixinsTest.Groupable;
+import com.benjiweber.recordmixins.RecordMixinsTest.Mappable;
+import com.benjiweber.recordmixins.RecordTuplesTest.Colour;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import typeref.RecordCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MappedRecordListTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void write_and_open() throws IOException {
+        Path file = folder.newFile().toPath();
+        MappedRecordList.write(file, Colour.class, List.of(new Colour(1, 2, 3), new Colour(4, 5, 6)));
+
+        var colours = MappedRecordList.open(file, Colour.class);
+
+        assertEquals(2, colours.size());
+        assertEquals(new Colour(4, 5, 6), colours.get(1));
+        assertEquals(List.of(new Colour(1, 2, 3), new Colour(4, 5, 6)), colours.stream().collect(toList()));
+    }
+
+    @Test
+    public void equal_to_lists_with_the_same_records() throws IOException {
+        Path file = folder.newFile().toPath();
+        List<Colour> written = List.of(new Colour(1, 2, 3), new Colour(4, 5, 6));
+        MappedRecordList.write(file, Colour.class, written);
+
+        var colours = MappedRecordList.open(file, Colour.class);
+
+        assertEquals(written, colours);
+        assertEquals(colours, written);
+        assertEquals(written.hashCode(), colours.hashCode());
+        assertTrue(Set.of(written).contains(colours));
+    }
+
+    @Test
+    public void query_across_chunks() throws IOException {
+        Path file = folder.newFile().toPath();
+        List<Colour> written = IntStream.range(0, 10_000).mapToObj(i -> new Colour(i % 256, i % 3, 0)).collect(toList());
+        MappedRecordList.write(file, Colour.class, written);
+
+        var colours = MappedRecordList.open(file, Colour.class, 1_000);
+
+        EnhancedList<Colour> reds = colours.where(c -> c.red() == 255);
+        Map<Integer, Long> byGreen = colours.countBy(Colour::green);
+        List<Integer> blues = colours.map(Colour::blue);
+
+        assertEquals(written.stream().filter(c -> c.red() == 255).collect(toList()), reds);
+        assertEquals(Map.of(0, 3334L, 1, 3333L, 2, 3333L), byGreen);
+        assertEquals(10_000, blues.size());
+        assertEquals(written.get(9_999), colours.get(9_999));
+        assertEquals(written.get(1_000), colours.get(1_000));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejects_file_of_other_record() throws IOException {
+        Path file = folder.newFile().toPath();
+        MappedRecordList.write(file, Colour.class, List.of(new Colour(1, 2, 3)));
+
+        MappedRecordList.open(file, Pixel.class);
+    }
+
+    @Test
+    public void zero_width_records() throws IOException {
+        Path file = folder.newFile().toPath();
+        MappedRecordList.write(file, Marker.class, List.of(new Marker(), new Marker(), new Marker()));
+
+        var markers = MappedRecordList.open(file, Marker.class);
+
+        assertEquals(3, markers.size());
+        assertEquals(new Marker(), markers.get(2));
+    }
+
+    @Test
+    public void rejects_truncated_file() throws IOException {
+        Path file = folder.newFile().toPath();
+        MappedRecordList.write(file, Colour.class, List.of(new Colour(1, 2, 3), new Colour(4, 5, 6)));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        try {
+            MappedRecordList.open(file, Colour.class);
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("truncated"));
+        }
+    }
+
+    record Pixel(int x, int y, int rgb) {}
+    record Marker() {}
+
+    public static final class MappedRecordList<R extends Record> implements
+            ForwardingList<R>,
+            Mappable<R>,
+            Filterable<R, EnhancedList<R>>,
+            Groupable<R> {
+        private static final int HEADER = Long.BYTES + Integer.BYTES;
+
+        private final MappedRecords<R> records;
+
+        private MappedRecordList(MappedRecords<R> records) {
+            this.records = records;
+        }
+
+        public static <R extends Record> void write(Path file, Class<R> type, Iterable<R> records) {
+            RecordCodec<R> codec = fixedWidthCodec(type);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.allocate(Math.max(HEADER, codec.fixedWidth() * 4096));
+                channel.position(HEADER);
+                int count = 0;
+                for (R record : records) {
+                    if (buffer.remaining() < codec.fixedWidth()) {
+                        drain(channel, buffer);
+                    }
+                    codec.write(record, buffer);
+                    count++;
+                }
+                drain(channel, buffer);
+                channel.position(0);
+                drain(channel, buffer.putLong(codec.fingerprint()).putInt(count));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public static <R extends Record> MappedRecordList<R> open(Path file, Class<R> type) {
+            int width = fixedWidthCodec(type).fixedWidth();
+            return open(file, type, width == 0 ? Integer.MAX_VALUE : Integer.MAX_VALUE / width);
+        }
+
+        static <R extends Record> MappedRecordList<R> open(Path file, Class<R> type, int recordsPerChunk) {
+            RecordCodec<R> codec = fixedWidthCodec(type);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() < HEADER) {
+                    throw new IllegalStateException(file + " is too short to hold a record file header");
+                }
+                ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+                long fingerprint = header.getLong();
+                if (fingerprint != codec.fingerprint()) {
+                    throw new IllegalStateException(file + " does not contain " + type.getName() + " records");
+                }
+                int size = header.getInt();
+                long expected = HEADER + (long) size * codec.fixedWidth();
+                if (size < 0 || expected > channel.size()) {
+                    throw new IllegalStateException(file + " is truncated: " + size + " records need " + expected + " bytes but the file has " + channel.size());
+                }
+                long chunkBytes = (long) recordsPerChunk * codec.fixedWidth();
+                MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + (long) recordsPerChunk - 1) / recordsPerChunk)];
+                for (int i = 0; i < chunks.length; i++) {
+                    long position = HEADER + i * chunkBytes;
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(chunkBytes, (long) size * codec.fixedWidth() - i * chunkBytes));
+                }
+                return new MappedRecordList<>(new MappedRecords<>(codec, chunks, recordsPerChunk, size));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public List<R> inner() {
+            return records;
+        }
+
+        public EnhancedList<R> forwarding(List<R> inner) {
+            return new EnhancedList<>(inner);
+        }
+
+        public boolean equals(Object o) {
+            return records.equals(o);
+        }
+
+        public int hashCode() {
+            return records.hashCode();
+        }
+
+        public String toString() {
+            return records.toString();
+        }
+
+        private static <R extends Record> RecordCodec<R> fixedWidthCodec(Class<R> type) {
+            RecordCodec<R> codec = RecordCodec.of(type);
+            if (codec.fixedWidth() < 0) {
+                throw new IllegalArgumentException(type.getName() + " is not a fixed width record");
+            }
+            return codec;
+        }
+
+        private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    static final class MappedRecords<R extends Record> extends AbstractList<R> implements RandomAccess {
+        private final RecordCodec<R> codec;
+        private final MappedByteBuffer[] chunks;
+        private final int recordsPerChunk;
+        private final int size;
+
+        MappedRecords(RecordCodec<R> codec, MappedByteBuffer[] chunks, int recordsPerChunk, int size) {
+            this.codec = codec;
+            this.chunks = chunks;
+            this.recordsPerChunk = recordsPerChunk;
+            this.size = size;
+        }
+
+        public R get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            int width = codec.fixedWidth();
+            ByteBuffer chunk = chunks[index / recordsPerChunk];
+            return codec.read(chunk.slice((index % recordsPerChunk) * width, width));
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+}
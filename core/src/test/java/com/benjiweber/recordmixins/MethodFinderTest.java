@@ -0,0 +1,130 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.MethodAwareFunction;
+import typeref.MethodFinder;
+
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MethodFinderTest {
+
+    static class Greeter {
+        final String greeting;
+
+        Greeter(String greeting) {
+            this.greeting = greeting;
+        }
+
+        String greet(String name) {
+            return greeting + " " + name;
+        }
+
+        static String describe(Integer count) {
+            return "count " + count;
+        }
+
+        static String describe(String label) {
+            return "label " + label;
+        }
+    }
+
+    @Test
+    public void overloaded_targets_resolve_exactly() throws Throwable {
+        MethodAwareFunction<Integer, String> byCount = Greeter::describe;
+        MethodAwareFunction<String, String> byLabel = Greeter::describe;
+
+        assertEquals(Integer.class, byCount.method().getParameterTypes()[0]);
+        assertEquals(String.class, byLabel.method().getParameterTypes()[0]);
+        assertEquals("count", byCount.parameter(0).getName());
+        assertEquals("label", byLabel.parameter(0).getName());
+        assertEquals("count 3", (String) byCount.invoker().invoke(3));
+    }
+
+    @Test
+    public void constructor_references() throws Throwable {
+        MethodAwareFunction<String, Greeter> constructor = Greeter::new;
+
+        assertEquals(Greeter.class, constructor.getContainingClass());
+        assertEquals("greeting", constructor.parameter(0).getName());
+        assertEquals("hi", ((Greeter) constructor.invoker().invoke("hi")).greeting);
+    }
+
+    @Test(expected = MethodFinder.UnableToGuessMethodException.class)
+    public void constructor_references_have_no_method() {
+        MethodAwareFunction<String, Greeter> constructor = Greeter::new;
+        constructor.method();
+    }
+
+    @Test
+    public void bound_instance_references() throws Throwable {
+        Greeter greeter = new Greeter("hello");
+        MethodAwareFunction<String, String> greet = greeter::greet;
+
+        assertEquals(Greeter.class, greet.getContainingClass());
+        assertEquals("greet", greet.method().getName());
+        assertEquals("name", greet.parameter(0).getName());
+        assertEquals("hello Sam", (String) greet.invoker().invoke(greeter, "Sam"));
+    }
+
+    @Test
+    public void resolved_once_per_lambda_class() {
+        List<MethodAwareFunction<String, String>> greets = new ArrayList<>();
+        for (String greeting : List.of("hello", "hi")) {
+            greets.add(new Greeter(greeting)::greet);
+        }
+
+        assertSame(greets.get(0).getClass(), greets.get(1).getClass());
+        assertSame(greets.get(0).method(), greets.get(1).method());
+        assertSame(greets.get(0).parameter(0), greets.get(1).parameter(0));
+    }
+
+    @Test
+    public void falls_back_to_descriptor_scanning() {
+        MethodAwareFunction<String, String> mislabelled = new ImplementedBy(MethodHandleInfo.REF_invokeStatic, "greet", "(Ljava/lang/String;)Ljava/lang/String;") {};
+
+        Method method = mislabelled.method();
+        assertEquals("greet", method.getName());
+        assertEquals(String.class, method.getParameterTypes()[0]);
+        assertEquals(Greeter.class, mislabelled.getContainingClass());
+    }
+
+    @Test(expected = MethodFinder.UnableToGuessMethodException.class)
+    public void descriptor_scanning_has_no_invoker() {
+        new ImplementedBy(MethodHandleInfo.REF_invokeStatic, "greet", "(Ljava/lang/String;)Ljava/lang/String;") {}.invoker();
+    }
+
+    @Test(expected = MethodFinder.UnableToGuessMethodException.class)
+    public void unmatched_descriptor_is_not_guessed_by_name() {
+        new ImplementedBy(MethodHandleInfo.REF_invokeVirtual, "greet", "(J)Ljava/lang/String;") {}.method();
+    }
+
+    abstract static class ImplementedBy implements MethodAwareFunction<String, String> {
+        private final int kind;
+        private final String name;
+        private final String descriptor;
+
+        ImplementedBy(int kind, String name, String descriptor) {
+            this.kind = kind;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+
+        public String apply(String value) {
+            return value;
+        }
+
+        public SerializedLambda serialized() {
+            return new SerializedLambda(MethodFinderTest.class,
+                    "java/util/function/Function", "apply", "(Ljava/lang/Object;)Ljava/lang/Object;",
+                    kind, Greeter.class.getName().replace('.', '/'), name, descriptor,
+                    "(Ljava/lang/String;)Ljava/lang/String;", new Object[0]);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static typeref.NameOf.nameof;
+import static typeref.NameOf.namesof;
+
+public class NameOfTest {
+
+    @Test
+    public void name_of_parameter() {
+        assertEquals("name", requireName(null, 3));
+        assertEquals("age", requireAge("Sam", -1));
+        assertEquals("label", requireLabel(null));
+    }
+
+    @Test
+    public void overloads_resolved_by_caller() {
+        assertEquals("count", overloaded(1));
+        assertEquals("label", overloaded("x"));
+    }
+
+    @Test
+    public void names_of_all_parameters() {
+        assertEquals(List.of("name", "age"), allNames("Sam", 34));
+        assertSame(allNames("Sam", 34), allNames("Leslie", 12));
+    }
+
+    String requireName(String name, int age) {
+        return name == null ? nameof(0) : null;
+    }
+
+    String requireLabel(String label) {
+        return nameof(this::requireLabel, 0);
+    }
+
+    String requireAge(String name, Integer age) {
+        return age < 0 ? nameof(1) : null;
+    }
+
+    String overloaded(Integer count) {
+        return nameof(0);
+    }
+
+    String overloaded(String label) {
+        return nameof(0);
+    }
+
+    List<String> allNames(String name, int age) {
+        return namesof();
+    }
+}
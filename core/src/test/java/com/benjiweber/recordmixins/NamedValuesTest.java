@@ -0,0 +1,88 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.NamedValue;
+import typeref.NamedValues;
+
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class NamedValuesTest {
+
+    @Test
+    public void named_value() {
+        NamedValue<String> named = user -> "Sam";
+        assertEquals("user", named.name());
+        assertEquals("Sam", named.value());
+    }
+
+    @Test
+    public void map_of_named_values() {
+        Map<String, Object> context = context("req-1");
+
+        assertEquals(Map.of("requestId", "req-1", "region", "eu-west", "attempt", 1), context);
+        assertEquals("eu-west", context.get("region"));
+        assertNull(context.get("missing"));
+        assertFalse(context.containsKey(1));
+        assertEquals(context("req-2").keySet(), context.keySet());
+        assertEquals("req-2", context("req-2").get("requestId"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable() {
+        context("req-1").put("region", "us-east");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicate_names() {
+        NamedValues.of(region -> "eu-west", region -> "us-east");
+    }
+
+    @Test
+    public void many_names() {
+        Map<String, Integer> numbers = NamedValues.of(
+                one -> 1, two -> 2, three -> 3, four -> 4, five -> 5,
+                six -> 6, seven -> 7, eight -> 8, nine -> 9, ten -> 10);
+
+        assertEquals(10, numbers.size());
+        for (var entry : numbers.entrySet()) {
+            assertEquals(entry.getValue(), numbers.get(entry.getKey()));
+        }
+        assertEquals(Integer.valueOf(7), numbers.get("seven"));
+    }
+
+    @Test
+    public void missing_local_variable_table() {
+        NamedValue<String> sleep = new NamedValue<>() {
+            public String apply(String name) {
+                return name;
+            }
+
+            public SerializedLambda serialized() {
+                return new SerializedLambda(NamedValuesTest.class,
+                        "java/util/function/Function", "apply", "(Ljava/lang/Object;)Ljava/lang/Object;",
+                        MethodHandleInfo.REF_invokeStatic,
+                        "java/lang/Thread", "sleep", "(J)V",
+                        "(Ljava/lang/String;)Ljava/lang/String;", new Object[0]);
+            }
+        };
+
+        try {
+            sleep.name();
+            fail();
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("javac -g"));
+        }
+    }
+
+    private static Map<String, Object> context(String id) {
+        return NamedValues.of(requestId -> id, region -> "eu-west", attempt -> 1);
+    }
+}
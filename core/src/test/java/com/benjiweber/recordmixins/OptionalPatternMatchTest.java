@@ -3,9 +3,18 @@ package com.benjiweber.recordmixins;
 import org.junit.Test;
 import typeref.MethodFinder;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.Assert.assertEquals;
 import static com.benjiweber.recordmixins.OptionalPatternMatchTest.None.*;
@@ -189,14 +198,115 @@ public class OptionalPatternMatchTest {
         );
     }
 
+    @Test
+    public void unwrap_all_of_type() {
+        List<Object> events = List.of(
+                "login",
+                Optional.of("logout"),
+                Optional.of(Optional.of(Optional.of("refresh"))),
+                Optional.empty(),
+                Optional.of(Optional.empty()),
+                5,
+                Optional.of(6));
+
+        assertEquals(List.of("login", "logout", "refresh"), unwrapAll(events, String.class).toList());
+        assertEquals(List.of(5, 6), unwrapAll(events.stream(), Integer.class).toList());
+    }
+
+    @Test
+    public void unwrap_all_primitive_optionals() {
+        List<Object> readings = List.of(
+                OptionalInt.of(1),
+                OptionalInt.empty(),
+                Optional.of(OptionalInt.of(2)),
+                3,
+                OptionalLong.of(4L),
+                Optional.of(Optional.of(5L)),
+                OptionalDouble.of(6.5),
+                OptionalDouble.empty(),
+                7.5);
+
+        assertEquals(6, unwrapAllInts(readings).sum());
+        assertEquals(9L, unwrapAllLongs(readings.stream()).sum());
+        assertEquals(14.0, unwrapAllDoubles(readings).sum(), 0.0);
+        assertEquals(List.of(1, 2, 3), unwrapAll(readings, Integer.class).toList());
+    }
+
     static Object unwrap(Object o) {
-        if (o instanceof Optional<?> opt) {
-            return opt.isPresent() ? unwrap(opt.get()) : None;
-        } else if (o != null) {
-            return o;
-        } else {
-            return None;
+        Object value = unwrapped(o);
+        return value != null ? value : None;
+    }
+
+    static <T> Stream<T> unwrapAll(Iterable<?> values, Class<T> type) {
+        return unwrapAll(StreamSupport.stream(values.spliterator(), false), type);
+    }
+
+    static <T> Stream<T> unwrapAll(Stream<?> values, Class<T> type) {
+        return values.mapMulti((o, sink) -> {
+            Object value = unwrapped(o);
+            if (value instanceof OptionalInt i) {
+                value = i.isPresent() ? i.getAsInt() : null;
+            } else if (value instanceof OptionalLong l) {
+                value = l.isPresent() ? l.getAsLong() : null;
+            } else if (value instanceof OptionalDouble d) {
+                value = d.isPresent() ? d.getAsDouble() : null;
+            }
+            if (type.isInstance(value)) {
+                sink.accept(type.cast(value));
+            }
+        });
+    }
+
+    static IntStream unwrapAllInts(Iterable<?> values) {
+        return unwrapAllInts(StreamSupport.stream(values.spliterator(), false));
+    }
+
+    static IntStream unwrapAllInts(Stream<?> values) {
+        return values.mapMultiToInt((o, sink) -> {
+            Object value = unwrapped(o);
+            if (value instanceof OptionalInt i) {
+                i.ifPresent(sink);
+            } else if (value instanceof Integer i) {
+                sink.accept(i);
+            }
+        });
+    }
+
+    static LongStream unwrapAllLongs(Iterable<?> values) {
+        return unwrapAllLongs(StreamSupport.stream(values.spliterator(), false));
+    }
+
+    static LongStream unwrapAllLongs(Stream<?> values) {
+        return values.mapMultiToLong((o, sink) -> {
+            Object value = unwrapped(o);
+            if (value instanceof OptionalLong l) {
+                l.ifPresent(sink);
+            } else if (value instanceof Long l) {
+                sink.accept(l);
+            }
+        });
+    }
+
+    static DoubleStream unwrapAllDoubles(Iterable<?> values) {
+        return unwrapAllDoubles(StreamSupport.stream(values.spliterator(), false));
+    }
+
+    static DoubleStream unwrapAllDoubles(Stream<?> values) {
+        return values.mapMultiToDouble((o, sink) -> {
+            Object value = unwrapped(o);
+            if (value instanceof OptionalDouble d) {
+                d.ifPresent(sink);
+            } else if (value instanceof Double d) {
+                sink.accept(d);
+            }
+        });
+    }
+
+    private static Object unwrapped(Object o) {
+        while (o instanceof Optional<?> opt) {
+            o = opt.orElse(null);
         }
+        return o;
     }
     static class None {
         private None() {}
@@ -0,0 +1,224 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.Instantiator;
+import typeref.ParameterPool;
+import typeref.Parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ParametersTest {
+
+    static class Query {
+        String table = "people";
+        int limit = 10;
+        boolean distinct;
+    }
+
+    static class Paging extends Query {
+        int page;
+    }
+
+    static class Options implements Cloneable {
+        String format = "json";
+        int indent;
+    }
+
+    static String run(Parameters<Query> params) {
+        Query query = params.get();
+        return query.table + ":" + query.limit + ":" + query.distinct;
+    }
+
+    @Test
+    public void named_parameters_from_cached_constructor() {
+        assertEquals("people:10:false", run(q -> {}));
+        assertEquals("towns:5:true", run(q -> { q.table = "towns"; q.limit = 5; q.distinct = true; }));
+    }
+
+    @Test
+    public void copies_prototype_fields() {
+        Paging prototype = new Paging();
+        prototype.limit = 50;
+        prototype.page = 3;
+
+        Parameters<Paging> params = p -> p.distinct = true;
+        Paging paging = params.get(prototype);
+
+        assertNotSame(prototype, paging);
+        assertEquals(50, paging.limit);
+        assertEquals(3, paging.page);
+        assertEquals("people", paging.table);
+        assertEquals(true, paging.distinct);
+        assertEquals(false, prototype.distinct);
+    }
+
+    @Test
+    public void clones_cloneable_prototype() {
+        Options prototype = new Options();
+        prototype.indent = 2;
+        AtomicReference<Options> result = new AtomicReference<>();
+
+        Parameters<Options> params = o -> o.format = "yaml";
+        params.with(prototype, result::set);
+
+        assertEquals(2, Instantiator.of(Options.class).copyOf(prototype).indent);
+        assertEquals(2, result.get().indent);
+        assertEquals("json", result.get().format);
+    }
+
+    static class Tagged {
+        List<String> tags = new ArrayList<>();
+    }
+
+    static class Fixed {
+        final List<String> items = new ArrayList<>();
+    }
+
+    @Test
+    public void prototype_copies_are_shallow() {
+        Tagged prototype = new Tagged();
+        prototype.tags.add("a");
+
+        Tagged copy = Instantiator.of(Tagged.class).copyOf(prototype);
+
+        assertNotSame(prototype, copy);
+        assertSame(prototype.tags, copy.tags);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void final_fields_cannot_be_copied() {
+        Instantiator.of(Fixed.class).copyOf(new Fixed());
+    }
+
+    @Test
+    public void instantiators_cached_per_type() {
+        assertSame(Instantiator.of(Query.class), Instantiator.of(Query.class));
+        assertEquals(10, Instantiator.of(Query.class).newInstance().limit);
+    }
+
+    static class Pooled {
+        String name = "default";
+        List<String> tags;
+    }
+
+    @Test
+    public void pooled_instances_reused_and_reset() {
+        AtomicReference<Pooled> first = new AtomicReference<>();
+        AtomicReference<Pooled> second = new AtomicReference<>();
+        Parameters<Pooled> params = p -> p.tags = List.of("a");
+
+        params.withPooled(p -> { p.name = "changed"; first.set(p); });
+        params.withPooled(p -> {
+            assertEquals("default", p.name);
+            assertEquals(List.of("a"), p.tags);
+            second.set(p);
+        });
+
+        assertSame(first.get(), second.get());
+        assertEquals("default", second.get().name);
+        assertNull(second.get().tags);
+    }
+
+    @Test
+    public void leases_return_to_pool() {
+        Parameters<Pooled> params = p -> p.name = "leased";
+        Pooled leased;
+        try (ParameterPool.Lease<Pooled> lease = params.lease()) {
+            leased = lease.get();
+            assertEquals("leased", leased.name);
+        }
+
+        assertEquals("default", leased.name);
+        assertSame(leased, ParameterPool.of(Pooled.class).acquire());
+    }
+
+    static class Basket {
+        String owner = "nobody";
+        List<String> items = new ArrayList<>();
+    }
+
+    @Test
+    public void mutable_fields_not_carried_between_leases() {
+        Parameters<Basket> params = b -> b.owner = "Sam";
+        List<String> firstItems;
+        try (ParameterPool.Lease<Basket> lease = params.lease()) {
+            firstItems = lease.get().items;
+            firstItems.add("apple");
+        }
+
+        try (ParameterPool.Lease<Basket> lease = params.lease()) {
+            assertEquals("Sam", lease.get().owner);
+            assertEquals(List.of(), lease.get().items);
+            assertNotSame(firstItems, lease.get().items);
+        }
+    }
+
+    static class Retried {
+        static final AtomicInteger constructed = new AtomicInteger();
+        String name = "default";
+
+        Retried() {
+            constructed.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void lease_released_when_configuration_fails() {
+        Parameters<Retried> params = r -> {
+            r.name = "failed";
+            throw new IllegalArgumentException();
+        };
+
+        try {
+            params.lease();
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        int constructed = Retried.constructed.get();
+
+        assertEquals("default", ParameterPool.of(Retried.class).acquire().name);
+        assertEquals(constructed, Retried.constructed.get());
+    }
+
+    @Test
+    public void pooled_instances_never_shared() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger clashes = new AtomicInteger();
+        Parameters<Pooled> params = p -> {};
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String owner = "owner" + i;
+                futures.add(executor.submit(() -> {
+                    for (int n = 0; n < 10_000; n++) {
+                        params.withPooled(p -> {
+                            if (!"default".equals(p.name)) clashes.incrementAndGet();
+                            p.name = owner;
+                            Thread.yield();
+                            if (!owner.equals(p.name)) clashes.incrementAndGet();
+                        });
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, clashes.get());
+    }
+}
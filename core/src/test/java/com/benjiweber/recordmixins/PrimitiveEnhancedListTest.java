@@ -0,0 +1,498 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.benjiweber.recordmixins.RecordMixinsTest.ForwardingList;
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveEnhancedListTest {
+
+    @Test
+    public void map() {
+        assertEquals(
+            List.of(2, 4, 6, 8),
+            IntEnhancedList.of(1, 2, 3, 4).map(i -> i * 2)
+        );
+    }
+
+    @Test
+    public void filter() {
+        assertEquals(
+            List.of(3_000_000_000L),
+            LongEnhancedList.of(1L, 3_000_000_000L, 5L).where(l -> l > Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    public void chain_filter() {
+        assertEquals(
+            List.of(2.5),
+            DoubleEnhancedList.of(0.5, 1.5, 2.5, 3.5)
+                .where(d -> d > 1)
+                .where(d -> d < 3)
+                .where(d -> d != 1.5)
+        );
+    }
+
+    @Test
+    public void group() {
+        assertEquals(
+            Map.of(
+                0, IntEnhancedList.of(2, 4),
+                1, IntEnhancedList.of(1, 3, 5)
+            ),
+            IntEnhancedList.of(1, 2, 3, 4, 5).groupBy(i -> i % 2)
+        );
+    }
+
+    @Test
+    public void map_and_group_longs() {
+        LongEnhancedList doubled = LongEnhancedList.of(1L, 2L, 3_000_000_000L).map(l -> l * 2);
+
+        assertEquals(List.of(2L, 4L, 6_000_000_000L), doubled);
+        assertEquals(
+            Map.of(
+                true, LongEnhancedList.of(6_000_000_000L),
+                false, LongEnhancedList.of(2L, 4L)
+            ),
+            doubled.groupBy(l -> l > Integer.MAX_VALUE)
+        );
+    }
+
+    @Test
+    public void map_and_group_doubles() {
+        DoubleEnhancedList halved = DoubleEnhancedList.of(1, 2, 3, 4).map(d -> d / 2);
+
+        assertEquals(List.of(0.5, 1.0, 1.5, 2.0), halved);
+        assertEquals(
+            Map.of(
+                0.0, DoubleEnhancedList.of(0.5),
+                1.0, DoubleEnhancedList.of(1.0, 1.5),
+                2.0, DoubleEnhancedList.of(2.0)
+            ),
+            halved.groupBy(Math::floor)
+        );
+    }
+
+    @Test
+    public void boxed_view() {
+        var list = IntEnhancedList.of(1, 2, 3);
+        for (int i = 4; i <= 100; i++) {
+            list.add(i);
+        }
+        list.add(0, 0);
+        list.remove(Integer.valueOf(50));
+
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(0), list.get(0));
+        assertEquals(5000, list.inner().ints().sum());
+        assertEquals(List.of(0, 1, 2), list.subList(0, 3));
+    }
+
+    abstract static class PrimitiveArray<E> extends AbstractList<E> implements RandomAccess {
+        protected int size;
+
+        protected abstract Object array();
+
+        protected abstract void resize(int capacity);
+
+        public int size() {
+            return size;
+        }
+
+        public E remove(int index) {
+            E previous = get(index);
+            System.arraycopy(array(), index + 1, array(), index, size - index - 1);
+            size--;
+            modCount++;
+            return previous;
+        }
+
+        protected int append() {
+            ensureCapacity(size + 1);
+            modCount++;
+            return size++;
+        }
+
+        protected void insert(int index) {
+            Objects.checkIndex(index, size + 1);
+            ensureCapacity(size + 1);
+            System.arraycopy(array(), index, array(), index + 1, size - index);
+            size++;
+            modCount++;
+        }
+
+        private void ensureCapacity(int capacity) {
+            int length = Array.getLength(array());
+            if (capacity > length) {
+                resize(Math.max(capacity, length + (length >> 1) + 1));
+            }
+        }
+    }
+
+    public record IntEnhancedList(IntArray inner) implements
+            ForwardingList<Integer>,
+            IntMappable<IntEnhancedList>,
+            IntFilterable<IntEnhancedList>,
+            IntGroupable<IntEnhancedList> {
+        public static IntEnhancedList of(int... values) {
+            return new IntEnhancedList(IntArray.of(values));
+        }
+
+        public IntEnhancedList forwarding(IntArray inner) {
+            return new IntEnhancedList(inner);
+        }
+    }
+
+    public interface IntForwarding<R> {
+        IntArray inner();
+
+        R forwarding(IntArray inner);
+    }
+
+    public interface IntMappable<R> extends IntForwarding<R> {
+        default R map(IntUnaryOperator f) {
+            IntArray source = inner();
+            IntArray result = new IntArray(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                result.addInt(f.applyAsInt(source.getInt(i)));
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface IntFilterable<R> extends IntForwarding<R> {
+        default R where(IntPredicate p) {
+            IntArray source = inner();
+            IntArray result = new IntArray();
+            for (int i = 0; i < source.size(); i++) {
+                int value = source.getInt(i);
+                if (p.test(value)) {
+                    result.addInt(value);
+                }
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface IntGroupable<R> extends IntForwarding<R> {
+        default <K> Map<K, R> groupBy(IntFunction<K> keyExtractor) {
+            IntArray source = inner();
+            Map<K, IntArray> groups = new HashMap<>();
+            for (int i = 0; i < source.size(); i++) {
+                int value = source.getInt(i);
+                groups.computeIfAbsent(keyExtractor.apply(value), k -> new IntArray()).addInt(value);
+            }
+            Map<K, R> result = new HashMap<>();
+            groups.forEach((key, group) -> result.put(key, forwarding(group)));
+            return result;
+        }
+    }
+
+    public static final class IntArray extends PrimitiveArray<Integer> {
+        private int[] values;
+
+        public IntArray() {
+            this(10);
+        }
+
+        public IntArray(int initialCapacity) {
+            this.values = new int[initialCapacity];
+        }
+
+        public static IntArray of(int... values) {
+            IntArray array = new IntArray(values.length);
+            System.arraycopy(values, 0, array.values, 0, values.length);
+            array.size = values.length;
+            return array;
+        }
+
+        public int getInt(int index) {
+            Objects.checkIndex(index, size);
+            return values[index];
+        }
+
+        public void addInt(int value) {
+            int index = append();
+            values[index] = value;
+        }
+
+        public IntStream ints() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        public Integer get(int index) {
+            return getInt(index);
+        }
+
+        public Integer set(int index, Integer element) {
+            int previous = getInt(index);
+            values[index] = element;
+            return previous;
+        }
+
+        public void add(int index, Integer element) {
+            insert(index);
+            values[index] = element;
+        }
+
+        protected Object array() {
+            return values;
+        }
+
+        protected void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public record LongEnhancedList(LongArray inner) implements
+            ForwardingList<Long>,
+            LongMappable<LongEnhancedList>,
+            LongFilterable<LongEnhancedList>,
+            LongGroupable<LongEnhancedList> {
+        public static LongEnhancedList of(long... values) {
+            return new LongEnhancedList(LongArray.of(values));
+        }
+
+        public LongEnhancedList forwarding(LongArray inner) {
+            return new LongEnhancedList(inner);
+        }
+    }
+
+    public interface LongForwarding<R> {
+        LongArray inner();
+
+        R forwarding(LongArray inner);
+    }
+
+    public interface LongMappable<R> extends LongForwarding<R> {
+        default R map(LongUnaryOperator f) {
+            LongArray source = inner();
+            LongArray result = new LongArray(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                result.addLong(f.applyAsLong(source.getLong(i)));
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface LongFilterable<R> extends LongForwarding<R> {
+        default R where(LongPredicate p) {
+            LongArray source = inner();
+            LongArray result = new LongArray();
+            for (int i = 0; i < source.size(); i++) {
+                long value = source.getLong(i);
+                if (p.test(value)) {
+                    result.addLong(value);
+                }
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface LongGroupable<R> extends LongForwarding<R> {
+        default <K> Map<K, R> groupBy(LongFunction<K> keyExtractor) {
+            LongArray source = inner();
+            Map<K, LongArray> groups = new HashMap<>();
+            for (int i = 0; i < source.size(); i++) {
+                long value = source.getLong(i);
+                groups.computeIfAbsent(keyExtractor.apply(value), k -> new LongArray()).addLong(value);
+            }
+            Map<K, R> result = new HashMap<>();
+            groups.forEach((key, group) -> result.put(key, forwarding(group)));
+            return result;
+        }
+    }
+
+    public static final class LongArray extends PrimitiveArray<Long> {
+        private long[] values;
+
+        public LongArray() {
+            this(10);
+        }
+
+        public LongArray(int initialCapacity) {
+            this.values = new long[initialCapacity];
+        }
+
+        public static LongArray of(long... values) {
+            LongArray array = new LongArray(values.length);
+            System.arraycopy(values, 0, array.values, 0, values.length);
+            array.size = values.length;
+            return array;
+        }
+
+        public long getLong(int index) {
+            Objects.checkIndex(index, size);
+            return values[index];
+        }
+
+        public void addLong(long value) {
+            int index = append();
+            values[index] = value;
+        }
+
+        public LongStream longs() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        public Long get(int index) {
+            return getLong(index);
+        }
+
+        public Long set(int index, Long element) {
+            long previous = getLong(index);
+            values[index] = element;
+            return previous;
+        }
+
+        public void add(int index, Long element) {
+            insert(index);
+            values[index] = element;
+        }
+
+        protected Object array() {
+            return values;
+        }
+
+        protected void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+
+    public record DoubleEnhancedList(DoubleArray inner) implements
+            ForwardingList<Double>,
+            DoubleMappable<DoubleEnhancedList>,
+            DoubleFilterable<DoubleEnhancedList>,
+            DoubleGroupable<DoubleEnhancedList> {
+        public static DoubleEnhancedList of(double... values) {
+            return new DoubleEnhancedList(DoubleArray.of(values));
+        }
+
+        public DoubleEnhancedList forwarding(DoubleArray inner) {
+            return new DoubleEnhancedList(inner);
+        }
+    }
+
+    public interface DoubleForwarding<R> {
+        DoubleArray inner();
+
+        R forwarding(DoubleArray inner);
+    }
+
+    public interface DoubleMappable<R> extends DoubleForwarding<R> {
+        default R map(DoubleUnaryOperator f) {
+            DoubleArray source = inner();
+            DoubleArray result = new DoubleArray(source.size());
+            for (int i = 0; i < source.size(); i++) {
+                result.addDouble(f.applyAsDouble(source.getDouble(i)));
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface DoubleFilterable<R> extends DoubleForwarding<R> {
+        default R where(DoublePredicate p) {
+            DoubleArray source = inner();
+            DoubleArray result = new DoubleArray();
+            for (int i = 0; i < source.size(); i++) {
+                double value = source.getDouble(i);
+                if (p.test(value)) {
+                    result.addDouble(value);
+                }
+            }
+            return forwarding(result);
+        }
+    }
+
+    public interface DoubleGroupable<R> extends DoubleForwarding<R> {
+        default <K> Map<K, R> groupBy(DoubleFunction<K> keyExtractor) {
+            DoubleArray source = inner();
+            Map<K, DoubleArray> groups = new HashMap<>();
+            for (int i = 0; i < source.size(); i++) {
+                double value = source.getDouble(i);
+                groups.computeIfAbsent(keyExtractor.apply(value), k -> new DoubleArray()).addDouble(value);
+            }
+            Map<K, R> result = new HashMap<>();
+            groups.forEach((key, group) -> result.put(key, forwarding(group)));
+            return result;
+        }
+    }
+
+    public static final class DoubleArray extends PrimitiveArray<Double> {
+        private double[] values;
+
+        public DoubleArray() {
+            this(10);
+        }
+
+        public DoubleArray(int initialCapacity) {
+            this.values = new double[initialCapacity];
+        }
+
+        public static DoubleArray of(double... values) {
+            DoubleArray array = new DoubleArray(values.length);
+            System.arraycopy(values, 0, array.values, 0, values.length);
+            array.size = values.length;
+            return array;
+        }
+
+        public double getDouble(int index) {
+            Objects.checkIndex(index, size);
+            return values[index];
+        }
+
+        public void addDouble(double value) {
+            int index = append();
+            values[index] = value;
+        }
+
+        public DoubleStream doubles() {
+            return Arrays.stream(values, 0, size);
+        }
+
+        public Double get(int index) {
+            return getDouble(index);
+        }
+
+        public Double set(int index, Double element) {
+            double previous = getDouble(index);
+            values[index] = element;
+            return previous;
+        }
+
+        public void add(int index, Double element) {
+            insert(index);
+            values[index] = element;
+        }
+
+        protected Object array() {
+            return values;
+        }
+
+        protected void resize(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+}
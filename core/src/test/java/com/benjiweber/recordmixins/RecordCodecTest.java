@@ -0,0 +1,134 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.RecordCodec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RecordCodecTest {
+
+    @Test
+    public void round_trip_fixed_width() {
+        var codec = RecordCodec.of(Sample.class);
+        var sample = new Sample(true, (byte) 1, (short) 2, 'c', 4, 5L, 6.5f, 7.25);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + codec.fixedWidth());
+
+        codec.encode(sample, buffer);
+
+        assertEquals(1 + 1 + 2 + 2 + 4 + 8 + 4 + 8, codec.fixedWidth());
+        assertEquals(0, buffer.remaining());
+        assertEquals(sample, codec.decode(buffer.flip()));
+    }
+
+    @Test
+    public void round_trip_references() {
+        var codec = RecordCodec.of(Order.class);
+        var order = new Order("Leslie", Status.SHIPPED, null, new Line("widget", 3));
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        codec.encode(order, buffer);
+
+        assertEquals(-1, codec.fixedWidth());
+        assertEquals(order, codec.decode(buffer.flip()));
+    }
+
+    @Test
+    public void nullable_fields_keep_fixed_width() {
+        var codec = RecordCodec.of(Measurement.class);
+        ByteBuffer buffer = ByteBuffer.allocate(codec.fixedWidth() * 2);
+
+        codec.write(new Measurement(null, Status.PENDING), buffer);
+        codec.write(new Measurement(42L, null), buffer);
+
+        assertEquals(1 + 8 + 1 + 4, codec.fixedWidth());
+        assertEquals(0, buffer.remaining());
+        buffer.flip();
+        assertEquals(new Measurement(null, Status.PENDING), codec.read(buffer));
+        assertEquals(new Measurement(42L, null), codec.read(buffer));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejects_mismatched_schema() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        RecordCodec.of(Line.class).encode(new Line("widget", 3), buffer);
+
+        RecordCodec.of(Renamed.class).decode(buffer.flip());
+    }
+
+    @Test
+    public void strings_are_utf8_with_a_short_length_prefix() {
+        var codec = RecordCodec.of(Line.class);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        codec.write(new Line("caf\u00e9", 1), buffer);
+
+        assertEquals(1 + 1 + 5 + 4, buffer.position());
+        assertEquals(new Line("caf\u00e9", 1), codec.read(buffer.flip()));
+    }
+
+    @Test
+    public void multi_byte_strings_encode_in_place() {
+        var codec = RecordCodec.of(Line.class);
+        var line = new Line("a\uD83D\uDE00\u00e9\u20ac", 1);
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+
+        codec.write(line, buffer);
+
+        assertEquals(1 + 1 + (1 + 4 + 2 + 3) + 4, buffer.position());
+        assertEquals(line, codec.read(buffer.flip()));
+    }
+
+    @Test
+    public void null_fields_overwrite_stale_bytes() {
+        var codec = RecordCodec.of(Measurement.class);
+        ByteBuffer buffer = ByteBuffer.allocate(codec.fixedWidth());
+        Arrays.fill(buffer.array(), (byte) 0xff);
+
+        codec.write(new Measurement(null, Status.PENDING), buffer);
+
+        for (int i = 0; i < 1 + Long.BYTES; i++) {
+            assertEquals(0, buffer.get(i));
+        }
+        assertEquals(new Measurement(null, Status.PENDING), codec.read(buffer.flip()));
+    }
+
+    @Test
+    public void long_strings_round_trip() {
+        var codec = RecordCodec.of(Line.class);
+        var line = new Line("x".repeat(70_000), 2);
+        ByteBuffer buffer = ByteBuffer.allocate(80_000);
+
+        codec.write(line, buffer);
+
+        assertEquals(line, codec.read(buffer.flip()));
+    }
+
+    @Test
+    public void schema_covers_nested_records_and_enum_constants() {
+        String schema = RecordCodec.of(Order.class).schema();
+
+        assertTrue(schema, schema.contains("Status{PENDING,SHIPPED,}"));
+        assertTrue(schema, schema.contains("Line(java.lang.String item,int quantity,) line"));
+        assertTrue(RecordCodec.of(Node.class).schema().endsWith("$Node next,)"));
+    }
+
+    @Test
+    public void codecs_cached_per_record_class() {
+        assertSame(RecordCodec.of(Line.class), RecordCodec.of(Line.class));
+        assertNotEquals(RecordCodec.of(Line.class).fingerprint(), RecordCodec.of(Renamed.class).fingerprint());
+    }
+
+    enum Status { PENDING, SHIPPED }
+    record Sample(boolean flag, byte b, short s, char c, int i, long l, float f, double d) {}
+    record Line(String item, int quantity) {}
+    record Renamed(String item, int count) {}
+    record Order(String customer, Status status, Integer priority, Line line) {}
+    record Measurement(Long value, Status status) {}
+    record Node(String name, Node next) {}
+}
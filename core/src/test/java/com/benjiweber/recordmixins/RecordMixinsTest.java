@@ -0,0 +1,527 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.RecordConstructor;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+public class RecordMixinsTest {
+
+    private static final List<String> example = List.of("one", "two", "three", "four", "five");
+
+    @Test
+    public void map() {
+        var mappable = new EnhancedList<>(example);
+
+        assertEquals(
+            List.of("oneone", "twotwo", "threethree", "fourfour", "fivefive"),
+            mappable.map(s -> s + s)
+        );
+    }
+
+
+    @Test
+    public void filter() {
+        var filterable = new EnhancedList<>(example);
+
+        assertEquals(
+            List.of("one", "two"),
+            filterable.where(s -> s.length() < 4)
+        );
+    }
+
+    @Test
+    public void group() {
+        var groupable = new EnhancedList<>(example);
+
+        assertEquals(
+            Map.of(
+                3, List.of("one", "two"),
+                4, List.of("four", "five"),
+                5, List.of("three")
+            ),
+            groupable.groupBy(String::length)
+        );
+    }
+
+    @Test
+    public void group_aggregate() {
+        var groupable = new EnhancedList<>(example);
+
+        assertEquals(
+            Map.of(3, 2L, 4, 2L, 5, 1L),
+            groupable.countBy(String::length)
+        );
+        assertEquals(
+            Map.of('o', 3L, 't', 8L, 'f', 8L),
+            groupable.sumBy(s -> s.charAt(0), String::length)
+        );
+        assertEquals(
+            Map.of(3, "one,two", 4, "four,five", 5, "three"),
+            groupable.groupBy(String::length, Collectors.joining(","))
+        );
+    }
+
+    @Test
+    public void group_multi_level() {
+        var groupable = new EnhancedList<>(example);
+
+        assertEquals(
+            Map.of(
+                3, Map.of('o', 1L, 't', 1L),
+                4, Map.of('f', 2L),
+                5, Map.of('t', 1L)
+            ),
+            groupable.groupBy(String::length, s -> s.charAt(0), Collectors.counting())
+        );
+    }
+
+    @Test
+    public void lazy_and_parallel_aggregate() {
+        var expected = Map.of(3, 2L, 4, 2L, 5, 1L);
+
+        assertEquals(expected, new EnhancedList<>(example).lazy().where(s -> true).countBy(String::length));
+        assertEquals(expected, new EnhancedList<>(example).parallel(Parallelism.on(ForkJoinPool.commonPool()).withThreshold(0)).countBy(String::length));
+    }
+
+    @Test
+    public void chain_filter() {
+        var filterable = new EnhancedList<>(example);
+
+        assertEquals(
+            List.of("one"),
+            filterable
+                .where(s -> s.length() < 4)
+                .where(s -> s.endsWith("e"))
+        );
+    }
+
+
+    @Test
+    public void lazy_chain() {
+        var evaluated = new AtomicInteger();
+        var lazy = new EnhancedList<>(example)
+                .lazy()
+                .where(s -> evaluated.incrementAndGet() > 0)
+                .where(s -> s.length() < 5)
+                .map(String::toUpperCase)
+                .where(s -> s.startsWith("T"));
+
+        assertEquals(0, evaluated.get());
+        assertEquals(List.of("TWO"), lazy);
+        assertEquals(List.of("TWO"), lazy);
+        assertEquals(5, evaluated.get());
+    }
+
+    @Test
+    public void lazy_group() {
+        var lazy = new EnhancedList<>(example)
+                .lazy()
+                .where(s -> s.length() > 3);
+
+        assertEquals(
+            Map.of(
+                4, List.of("four", "five"),
+                5, List.of("three")
+            ),
+            lazy.groupBy(String::length)
+        );
+    }
+
+    @Test
+    public void parallel_map_filter_group() {
+        var pool = new ForkJoinPool(4);
+        try {
+            var numbers = IntStream.range(0, 10_000).boxed().collect(toList());
+            var parallel = new EnhancedList<>(numbers).parallel(Parallelism.on(pool).withThreshold(1_000));
+            var poolThreads = ConcurrentHashMap.<Thread>newKeySet();
+
+            assertEquals(
+                numbers.stream().map(i -> i * 2).collect(toList()),
+                parallel.map(i -> {
+                    poolThreads.add(Thread.currentThread());
+                    return i * 2;
+                })
+            );
+            assertEquals(
+                numbers.stream().filter(i -> i % 3 == 0).collect(toList()),
+                parallel.where(i -> i % 3 == 0)
+            );
+            assertEquals(
+                numbers.stream().collect(Collectors.groupingBy(i -> i % 7)),
+                parallel.groupBy(i -> i % 7)
+            );
+            assertTrue(poolThreads.stream().allMatch(t -> t instanceof ForkJoinWorkerThread w && w.getPool() == pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void parallel_below_threshold_runs_sequentially() {
+        var parallel = new EnhancedList<>(example).parallel(Parallelism.on(ForkJoinPool.commonPool()));
+        var caller = Thread.currentThread();
+
+        assertEquals(
+            List.of("one", "two"),
+            parallel.where(s -> Thread.currentThread() == caller && s.length() < 4)
+        );
+    }
+
+    public record EnhancedList<T>(List<T> inner) implements
+            ForwardingList<T>,
+            Mappable<T>,
+            Filterable<T, EnhancedList<T>>,
+            Groupable<T> {
+        public LazyList<T> lazy() {
+            return new LazyList<>(inner::stream);
+        }
+
+        public ParallelEnhancedList<T> parallel(Parallelism parallelism) {
+            return new ParallelEnhancedList<>(inner, parallelism);
+        }
+    }
+
+    public record ParallelEnhancedList<T>(List<T> inner, Parallelism parallelism) implements
+            ForwardingList<T>,
+            ParallelMappable<T>,
+            ParallelFilterable<T, ParallelEnhancedList<T>>,
+            ParallelGroupable<T> {
+        public ParallelEnhancedList<T> forwarding(List<T> inner) {
+            return new ParallelEnhancedList<>(inner, parallelism);
+        }
+    }
+
+    public record Parallelism(ForkJoinPool pool, long threshold, int cost) {
+        public static Parallelism on(ForkJoinPool pool) {
+            return new Parallelism(pool, 10_000, 1);
+        }
+
+        public Parallelism withThreshold(long threshold) {
+            return new Parallelism(pool, threshold, cost);
+        }
+
+        public Parallelism withCost(int cost) {
+            return new Parallelism(pool, threshold, cost);
+        }
+
+        public boolean worthwhile(int size) {
+            return (long) size * cost >= threshold;
+        }
+    }
+
+    public static final class LazyList<T> implements
+            ForwardingList<T>,
+            Mappable<T>,
+            Filterable<T, LazyList<T>>,
+            Groupable<T> {
+        private final Supplier<Stream<T>> pipeline;
+        private volatile List<T> materialized;
+
+        private LazyList(Supplier<Stream<T>> pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        public List<T> inner() {
+            List<T> result = materialized;
+            if (result == null) {
+                result = pipeline.get().collect(toList());
+                materialized = result;
+            }
+            return result;
+        }
+
+        public LazyList<T> where(Predicate<T> p) {
+            return new LazyList<>(() -> stream().filter(p));
+        }
+
+        public <R> LazyList<R> map(Function<T, R> f) {
+            return new LazyList<>(() -> stream().map(f));
+        }
+
+        public <R> Map<R, List<T>> groupBy(Function<T, R> keyExtractor) {
+            return stream().collect(Collectors.groupingBy(keyExtractor));
+        }
+
+        public <R, D> Map<R, D> groupBy(Function<T, R> keyExtractor, Collector<? super T, ?, D> aggregator) {
+            return stream().collect(Collectors.groupingBy(keyExtractor, aggregator));
+        }
+
+        public Stream<T> stream() {
+            List<T> result = materialized;
+            return result != null
+                    ? result.stream()
+                    : pipeline.get();
+        }
+
+        public boolean equals(Object o) {
+            return inner().equals(o);
+        }
+
+        public int hashCode() {
+            return inner().hashCode();
+        }
+
+        public String toString() {
+            return inner().toString();
+        }
+    }
+
+    public interface Mappable<T> extends Forwarding<List<T>> {
+        default <R> List<R> map(Function<T, R> f) {
+            return inner().stream().map(f).collect(toList());
+        }
+    }
+
+    public interface Filterable<T, R extends Collection<T>> extends ForwardingAllTheWayDown<List<T>, R> {
+        default R where(Predicate<T> p) {
+            return forwarding(inner().stream().filter(p).collect(toList()));
+        }
+    }
+
+    public interface Groupable<T> extends Forwarding<List<T>> {
+        default <R> Map<R, List<T>> groupBy(Function<T, R> keyExtractor) {
+            return inner().stream().collect(Collectors.groupingBy(keyExtractor));
+        }
+
+        default <R, D> Map<R, D> groupBy(Function<T, R> keyExtractor, Collector<? super T, ?, D> aggregator) {
+            return inner().stream().collect(Collectors.groupingBy(keyExtractor, aggregator));
+        }
+
+        default <R, S, D> Map<R, Map<S, D>> groupBy(Function<T, R> keyExtractor, Function<T, S> subKeyExtractor, Collector<? super T, ?, D> aggregator) {
+            return groupBy(keyExtractor, Collectors.groupingBy(subKeyExtractor, aggregator));
+        }
+
+        default <R> Map<R, Long> countBy(Function<T, R> keyExtractor) {
+            return groupBy(keyExtractor, Collectors.counting());
+        }
+
+        default <R> Map<R, Long> sumBy(Function<T, R> keyExtractor, ToLongFunction<? super T> value) {
+            return groupBy(keyExtractor, Collectors.summingLong(value));
+        }
+    }
+
+    public interface ParallelAware<T> extends Forwarding<List<T>> {
+        Parallelism parallelism();
+
+        default <R> R run(Function<Stream<T>, R> operation) {
+            if (!parallelism().worthwhile(inner().size())) {
+                return operation.apply(inner().stream());
+            }
+            return parallelism().pool()
+                    .submit(() -> operation.apply(inner().parallelStream()))
+                    .join();
+        }
+    }
+
+    public interface ParallelMappable<T> extends Mappable<T>, ParallelAware<T> {
+        default <R> List<R> map(Function<T, R> f) {
+            return run(stream -> stream.map(f).collect(toList()));
+        }
+    }
+
+    public interface ParallelFilterable<T, R extends Collection<T>> extends Filterable<T, R>, ParallelAware<T> {
+        default R where(Predicate<T> p) {
+            return forwarding(run(stream -> stream.filter(p).collect(toList())));
+        }
+    }
+
+    public interface ParallelGroupable<T> extends Groupable<T>, ParallelAware<T> {
+        default <R> Map<R, List<T>> groupBy(Function<T, R> keyExtractor) {
+            return run(stream -> stream.collect(Collectors.groupingBy(keyExtractor)));
+        }
+
+        default <R, D> Map<R, D> groupBy(Function<T, R> keyExtractor, Collector<? super T, ?, D> aggregator) {
+            return run(stream -> stream.collect(Collectors.groupingBy(keyExtractor, aggregator)));
+        }
+    }
+
+
+    interface Forwarding<T> {
+        T inner();
+    }
+
+    interface ForwardingAllTheWayDown<T, R> extends Forwarding<T> {
+        default R forwarding(T t) {
+            if (getClass().isRecord()) {
+                RecordConstructor<?> constructor = RecordConstructor.of(getClass());
+                if (constructor.arity() != 1 || !constructor.parameterType(0).isInstance(t)) {
+                    throw new IllegalStateException();
+                }
+                return (R) constructor.newInstance(t);
+            }
+            try {
+                return (R) ForwardingConstructors.compatibleConstructor(getClass(), t.getClass())
+                        .newInstance(t);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static final class ForwardingConstructors {
+        private static final ClassValue<ClassValue<Constructor<?>>> constructors = new ClassValue<>() {
+            protected ClassValue<Constructor<?>> computeValue(Class<?> type) {
+                Constructor<?>[] candidates = type.getConstructors();
+                return new ClassValue<>() {
+                    protected Constructor<?> computeValue(Class<?> argumentType) {
+                        return Stream.of(candidates)
+                                .filter(ctor -> ctor.getParameterCount() == 1)
+                                .filter(ctor -> ctor.getParameterTypes()[0].isAssignableFrom(argumentType))
+                                .findAny().orElseThrow(IllegalStateException::new);
+                    }
+                };
+            }
+        };
+
+        static Constructor<?> compatibleConstructor(Class<?> type, Class<?> argumentType) {
+            return constructors.get(type).get(argumentType);
+        }
+    }
+
+    interface ForwardingList<T> extends List<T>, Forwarding<List<T>> {
+        List<T> inner();
+
+        default int size() {
+            return inner().size();
+        }
+
+        default boolean isEmpty() {
+            return inner().isEmpty();
+        }
+
+        default boolean contains(Object o) {
+            return inner().contains(o);
+        }
+
+        default Iterator<T> iterator() {
+            return inner().iterator();
+        }
+
+        default Object[] toArray() {
+            return inner().toArray();
+        }
+
+        default <T1> T1[] toArray(T1[] a) {
+            return inner().toArray(a);
+        }
+
+        default boolean add(T t) {
+            return inner().add(t);
+        }
+
+        default boolean remove(Object o) {
+            return inner().remove(o);
+        }
+
+        default boolean containsAll(Collection<?> c) {
+            return inner().containsAll(c);
+        }
+
+        default boolean addAll(Collection<? extends T> c) {
+            return inner().addAll(c);
+        }
+
+        default boolean addAll(int index, Collection<? extends T> c) {
+            return inner().addAll(index, c);
+        }
+
+        default boolean removeAll(Collection<?> c) {
+            return inner().removeAll(c);
+        }
+
+        default boolean retainAll(Collection<?> c) {
+            return inner().retainAll(c);
+        }
+
+        default void replaceAll(UnaryOperator<T> operator) {
+            inner().replaceAll(operator);
+        }
+
+        default void sort(Comparator<? super T> c) {
+            inner().sort(c);
+        }
+
+        default void clear() {
+            inner().clear();
+        }
+
+        default T get(int index) {
+            return inner().get(index);
+        }
+
+        default T set(int index, T element) {
+            return inner().set(index, element);
+        }
+
+        default void add(int index, T element) {
+            inner().add(index, element);
+        }
+
+        default T remove(int index) {
+            return inner().remove(index);
+        }
+
+        default int indexOf(Object o) {
+            return inner().indexOf(o);
+        }
+
+        default int lastIndexOf(Object o) {
+            return inner().lastIndexOf(o);
+        }
+
+        default ListIterator<T> listIterator() {
+            return inner().listIterator();
+        }
+
+        default ListIterator<T> listIterator(int index) {
+            return inner().listIterator(index);
+        }
+
+        default List<T> subList(int fromIndex, int toIndex) {
+            return inner().subList(fromIndex, toIndex);
+        }
+
+        default Spliterator<T> spliterator() {
+            return inner().spliterator();
+        }
+
+
+        default <T1> T1[] toArray(IntFunction<T1[]> generator) {
+            return inner().toArray(generator);
+        }
+
+        default boolean removeIf(Predicate<? super T> filter) {
+            return inner().removeIf(filter);
+        }
+
+        default Stream<T> stream() {
+            return inner().stream();
+        }
+
+        default Stream<T> parallelStream() {
+            return inner().parallelStream();
+        }
+
+        default void forEach(Consumer<? super T> action) {
+            inner().forEach(action);
+        }
+    }
+
+
+}
\ No newline at end of file
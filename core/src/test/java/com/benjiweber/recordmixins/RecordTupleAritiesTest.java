@@ -0,0 +1,1136 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.DefaultValue;
+import typeref.MethodAwareFunction;
+import typeref.MethodFinder;
+import typeref.Mixin;
+import typeref.RecordAccessors;
+import typeref.RecordChanges;
+import typeref.RecordConstructor;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+public class RecordTupleAritiesTest {
+
+    public record Point(int x, int y) implements Tuple2<Point, Integer, Integer> {}
+    public record Size(int width, int height) implements Tuple2<Size, Integer, Integer> {}
+    public record Address(String street, String city, String postcode, String country) implements Tuple4<Address, String, String, String, String> {}
+    public record Reading(String sensor, long timestamp, double value, int quality, String unit) implements Tuple5<Reading, String, Long, Double, Integer, String> {}
+    public record Rainfall(int jan, int feb, int mar, int apr, int may, int jun, int jul, int aug, int sep, int oct, int nov, int dec) implements Tuple12<Rainfall, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> {}
+
+    @Test
+    public void decompose_pair() {
+        Point point = new Point(3, 4);
+        AtomicReference<Integer> result = new AtomicReference<>();
+
+        point.decompose((x, y) -> result.set(x * y));
+
+        assertEquals(Integer.valueOf(12), result.get());
+        assertEquals(7, point.decomposeTo((x, y) -> x + y).intValue());
+    }
+
+    @Test
+    public void decompose_quad() {
+        Address address = new Address("1 High Street", "Bristol", "BS1 1AA", "UK");
+
+        String formatted = address.decomposeTo((street, city, postcode, country) ->
+                street + ", " + city + " " + postcode + ", " + country);
+
+        assertEquals("1 High Street, Bristol BS1 1AA, UK", formatted);
+    }
+
+    @Test
+    public void decompose_twelve() {
+        Rainfall rainfall = new Rainfall(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+
+        int total = rainfall.decomposeTo((a, b, c, d, e, f, g, h, i, j, k, l) ->
+                a + b + c + d + e + f + g + h + i + j + k + l);
+
+        assertEquals(78, total);
+        assertEquals(12, rainfall.twelve().intValue());
+    }
+
+    @Test
+    public void structural_convert_reflection() {
+        Size size = new Point(3, 4).to(Size.class);
+        assertEquals(new Size(3, 4), size);
+    }
+
+    @Test
+    public void structural_convert_method_reference() {
+        Size size = new Point(3, 4).to(Size::new);
+        assertEquals(new Size(3, 4), size);
+    }
+
+    @Test
+    public void replace_property() {
+        Reading reading = new Reading("kitchen", 1000L, 21.5, 3, "C");
+
+        assertEquals(
+                new Reading("kitchen", 1000L, 22.0, 3, "C"),
+                reading.with(Reading::value, 22.0)
+        );
+        assertEquals(
+                new Reading("hall", 1000L, 21.5, 1, "C"),
+                reading.changes().with(Reading::sensor, "hall").with(Reading::quality, 1).apply()
+        );
+    }
+
+    @Test
+    public void auto_builders() {
+        Reading reading = Tuple5.builder(Reading::new)
+                .with(Reading::sensor, "kitchen")
+                .with(Reading::value, 21.5);
+
+        assertEquals(new Reading("kitchen", 0L, 21.5, 0, null), reading);
+    }
+
+    @Test
+    public void mandatory_builders() {
+        Reading reading = Tuple5.safebuilder(Reading::new)
+                .with(Reading::sensor, "kitchen")
+                .with(Reading::timestamp, 1000L)
+                .with(Reading::value, 21.5)
+                .with(Reading::quality, 3)
+                .with(Reading::unit, "C");
+
+        assertEquals(new Reading("kitchen", 1000L, 21.5, 3, "C"), reading);
+        assertEquals(new Point(3, 4), Tuple2.safebuilder(Point::new).with(Point::x, 3).with(Point::y, 4));
+    }
+
+    @Test
+    public void auto_builders_reflection() {
+        Point point = Tuple2.builder(Point.class)
+                .with(Point::y, 4);
+
+        assertEquals(new Point(0, 4), point);
+    }
+
+    interface RecordTuple<TRecord extends Record> {
+        default <T> T component(int index) {
+            return RecordAccessors.of(getClass()).get((Record) this, index);
+        }
+
+        default Function<Object, Object> getter(int index) {
+            return RecordAccessors.of(getClass()).getter(index);
+        }
+
+        default RecordChanges<TRecord> changes() {
+            return RecordChanges.of((TRecord) this);
+        }
+
+        default <R> TRecord with(MethodAwareFunction<TRecord, R> prop, R newValue) {
+            return changes().with(prop, newValue).apply();
+        }
+
+        default <R> RecordConstructor<R> convertTo(Class<R> cls) {
+            RecordConstructor<R> constructor = RecordConstructor.of(cls);
+            if (!constructor.acceptsComponentsOf(getClass())) {
+                throw new IllegalStateException();
+            }
+            return constructor;
+        }
+    }
+
+    @Mixin
+    interface Tuple1<TRecord extends Record & Tuple1<TRecord, A>, A> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default void decompose(Consumer<A> withComponents) {
+            withComponents.accept(one());
+        }
+
+        default <R> R decomposeTo(Function<A, R> withComponents) {
+            return withComponents.apply(one());
+        }
+
+        default <R extends Record & Tuple1<R, A>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one());
+        }
+
+        default <R extends Record & Tuple1<R, A>> R to(Function<A, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, TBuild extends Record & Tuple1<TBuild, A>> TBuild builder(MethodAwareFunction<A, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0)
+            );
+        }
+
+        static <A, TBuild extends Record & Tuple1<TBuild, A>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 1);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0)
+            );
+        }
+
+        static <A, TBuild extends Record & Tuple1<TBuild, A>> Missing<A, TBuild, TBuild> safebuilder(Function<A, TBuild> ctor) {
+            return (propA, a) -> ctor.apply(a);
+        }
+    }
+
+    @Mixin
+    interface Tuple2<TRecord extends Record & Tuple2<TRecord, A, B>, A, B> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default void decompose(BiConsumer<A, B> withComponents) {
+            withComponents.accept(one(), two());
+        }
+
+        default <R> R decomposeTo(BiFunction<A, B, R> withComponents) {
+            return withComponents.apply(one(), two());
+        }
+
+        default <R extends Record & Tuple2<R, A, B>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two());
+        }
+
+        default <R extends Record & Tuple2<R, A, B>> R to(BiFunction<A, B, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, TBuild extends Record & Tuple2<TBuild, A, B>> TBuild builder(MethodAwareBiFunction<A, B, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1)
+            );
+        }
+
+        static <A, B, TBuild extends Record & Tuple2<TBuild, A, B>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 2);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1)
+            );
+        }
+
+        static <A, B, TBuild extends Record & Tuple2<TBuild, A, B>> Missing<A, TBuild, Missing<B, TBuild, TBuild>> safebuilder(BiFunction<A, B, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> ctor.apply(a, b);
+        }
+    }
+
+    @Mixin
+    interface Tuple3<TRecord extends Record & Tuple3<TRecord, A, B, C>, A, B, C> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default void decompose(Consumer3<A, B, C> withComponents) {
+            withComponents.accept(one(), two(), three());
+        }
+
+        default <R> R decomposeTo(Function3<A, B, C, R> withComponents) {
+            return withComponents.apply(one(), two(), three());
+        }
+
+        default <R extends Record & Tuple3<R, A, B, C>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three());
+        }
+
+        default <R extends Record & Tuple3<R, A, B, C>> R to(Function3<A, B, C, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, TBuild extends Record & Tuple3<TBuild, A, B, C>> TBuild builder(MethodAwareFunction3<A, B, C, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2)
+            );
+        }
+
+        static <A, B, C, TBuild extends Record & Tuple3<TBuild, A, B, C>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 3);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2)
+            );
+        }
+
+        static <A, B, C, TBuild extends Record & Tuple3<TBuild, A, B, C>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, TBuild>>> safebuilder(Function3<A, B, C, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> ctor.apply(a, b, c);
+        }
+    }
+
+    @Mixin
+    interface Tuple4<TRecord extends Record & Tuple4<TRecord, A, B, C, D>, A, B, C, D> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default void decompose(Consumer4<A, B, C, D> withComponents) {
+            withComponents.accept(one(), two(), three(), four());
+        }
+
+        default <R> R decomposeTo(Function4<A, B, C, D, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four());
+        }
+
+        default <R extends Record & Tuple4<R, A, B, C, D>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four());
+        }
+
+        default <R extends Record & Tuple4<R, A, B, C, D>> R to(Function4<A, B, C, D, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, TBuild extends Record & Tuple4<TBuild, A, B, C, D>> TBuild builder(MethodAwareFunction4<A, B, C, D, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3)
+            );
+        }
+
+        static <A, B, C, D, TBuild extends Record & Tuple4<TBuild, A, B, C, D>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 4);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3)
+            );
+        }
+
+        static <A, B, C, D, TBuild extends Record & Tuple4<TBuild, A, B, C, D>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, TBuild>>>> safebuilder(Function4<A, B, C, D, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> ctor.apply(a, b, c, d);
+        }
+    }
+
+    @Mixin
+    interface Tuple5<TRecord extends Record & Tuple5<TRecord, A, B, C, D, E>, A, B, C, D, E> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default void decompose(Consumer5<A, B, C, D, E> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five());
+        }
+
+        default <R> R decomposeTo(Function5<A, B, C, D, E, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five());
+        }
+
+        default <R extends Record & Tuple5<R, A, B, C, D, E>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five());
+        }
+
+        default <R extends Record & Tuple5<R, A, B, C, D, E>> R to(Function5<A, B, C, D, E, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, TBuild extends Record & Tuple5<TBuild, A, B, C, D, E>> TBuild builder(MethodAwareFunction5<A, B, C, D, E, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4)
+            );
+        }
+
+        static <A, B, C, D, E, TBuild extends Record & Tuple5<TBuild, A, B, C, D, E>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 5);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4)
+            );
+        }
+
+        static <A, B, C, D, E, TBuild extends Record & Tuple5<TBuild, A, B, C, D, E>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, TBuild>>>>> safebuilder(Function5<A, B, C, D, E, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> ctor.apply(a, b, c, d, e);
+        }
+    }
+
+    @Mixin
+    interface Tuple6<TRecord extends Record & Tuple6<TRecord, A, B, C, D, E, F>, A, B, C, D, E, F> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default void decompose(Consumer6<A, B, C, D, E, F> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six());
+        }
+
+        default <R> R decomposeTo(Function6<A, B, C, D, E, F, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six());
+        }
+
+        default <R extends Record & Tuple6<R, A, B, C, D, E, F>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six());
+        }
+
+        default <R extends Record & Tuple6<R, A, B, C, D, E, F>> R to(Function6<A, B, C, D, E, F, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, TBuild extends Record & Tuple6<TBuild, A, B, C, D, E, F>> TBuild builder(MethodAwareFunction6<A, B, C, D, E, F, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5)
+            );
+        }
+
+        static <A, B, C, D, E, F, TBuild extends Record & Tuple6<TBuild, A, B, C, D, E, F>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 6);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5)
+            );
+        }
+
+        static <A, B, C, D, E, F, TBuild extends Record & Tuple6<TBuild, A, B, C, D, E, F>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, TBuild>>>>>> safebuilder(Function6<A, B, C, D, E, F, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> ctor.apply(a, b, c, d, e, f);
+        }
+    }
+
+    @Mixin
+    interface Tuple7<TRecord extends Record & Tuple7<TRecord, A, B, C, D, E, F, G>, A, B, C, D, E, F, G> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default void decompose(Consumer7<A, B, C, D, E, F, G> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven());
+        }
+
+        default <R> R decomposeTo(Function7<A, B, C, D, E, F, G, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven());
+        }
+
+        default <R extends Record & Tuple7<R, A, B, C, D, E, F, G>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven());
+        }
+
+        default <R extends Record & Tuple7<R, A, B, C, D, E, F, G>> R to(Function7<A, B, C, D, E, F, G, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, TBuild extends Record & Tuple7<TBuild, A, B, C, D, E, F, G>> TBuild builder(MethodAwareFunction7<A, B, C, D, E, F, G, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, TBuild extends Record & Tuple7<TBuild, A, B, C, D, E, F, G>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 7);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, TBuild extends Record & Tuple7<TBuild, A, B, C, D, E, F, G>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, TBuild>>>>>>> safebuilder(Function7<A, B, C, D, E, F, G, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> ctor.apply(a, b, c, d, e, f, g);
+        }
+    }
+
+    @Mixin
+    interface Tuple8<TRecord extends Record & Tuple8<TRecord, A, B, C, D, E, F, G, H>, A, B, C, D, E, F, G, H> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default H eight() {
+            return (H) getter(7).apply(this);
+        }
+
+        default void decompose(Consumer8<A, B, C, D, E, F, G, H> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven(), eight());
+        }
+
+        default <R> R decomposeTo(Function8<A, B, C, D, E, F, G, H, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven(), eight());
+        }
+
+        default <R extends Record & Tuple8<R, A, B, C, D, E, F, G, H>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven(), eight());
+        }
+
+        default <R extends Record & Tuple8<R, A, B, C, D, E, F, G, H>> R to(Function8<A, B, C, D, E, F, G, H, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, H, TBuild extends Record & Tuple8<TBuild, A, B, C, D, E, F, G, H>> TBuild builder(MethodAwareFunction8<A, B, C, D, E, F, G, H, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6),
+                    (H) defaultValue(constructor, 7)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, TBuild extends Record & Tuple8<TBuild, A, B, C, D, E, F, G, H>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 8);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6),
+                    defaultValue(constructor, 7)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, TBuild extends Record & Tuple8<TBuild, A, B, C, D, E, F, G, H>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, Missing<H, TBuild, TBuild>>>>>>>> safebuilder(Function8<A, B, C, D, E, F, G, H, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> (propH, h) -> ctor.apply(a, b, c, d, e, f, g, h);
+        }
+    }
+
+    @Mixin
+    interface Tuple9<TRecord extends Record & Tuple9<TRecord, A, B, C, D, E, F, G, H, I>, A, B, C, D, E, F, G, H, I> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default H eight() {
+            return (H) getter(7).apply(this);
+        }
+
+        default I nine() {
+            return (I) getter(8).apply(this);
+        }
+
+        default void decompose(Consumer9<A, B, C, D, E, F, G, H, I> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven(), eight(), nine());
+        }
+
+        default <R> R decomposeTo(Function9<A, B, C, D, E, F, G, H, I, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven(), eight(), nine());
+        }
+
+        default <R extends Record & Tuple9<R, A, B, C, D, E, F, G, H, I>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven(), eight(), nine());
+        }
+
+        default <R extends Record & Tuple9<R, A, B, C, D, E, F, G, H, I>> R to(Function9<A, B, C, D, E, F, G, H, I, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, H, I, TBuild extends Record & Tuple9<TBuild, A, B, C, D, E, F, G, H, I>> TBuild builder(MethodAwareFunction9<A, B, C, D, E, F, G, H, I, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6),
+                    (H) defaultValue(constructor, 7),
+                    (I) defaultValue(constructor, 8)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, TBuild extends Record & Tuple9<TBuild, A, B, C, D, E, F, G, H, I>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 9);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6),
+                    defaultValue(constructor, 7),
+                    defaultValue(constructor, 8)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, TBuild extends Record & Tuple9<TBuild, A, B, C, D, E, F, G, H, I>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, Missing<H, TBuild, Missing<I, TBuild, TBuild>>>>>>>>> safebuilder(Function9<A, B, C, D, E, F, G, H, I, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> (propH, h) -> (propI, i) -> ctor.apply(a, b, c, d, e, f, g, h, i);
+        }
+    }
+
+    @Mixin
+    interface Tuple10<TRecord extends Record & Tuple10<TRecord, A, B, C, D, E, F, G, H, I, J>, A, B, C, D, E, F, G, H, I, J> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default H eight() {
+            return (H) getter(7).apply(this);
+        }
+
+        default I nine() {
+            return (I) getter(8).apply(this);
+        }
+
+        default J ten() {
+            return (J) getter(9).apply(this);
+        }
+
+        default void decompose(Consumer10<A, B, C, D, E, F, G, H, I, J> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten());
+        }
+
+        default <R> R decomposeTo(Function10<A, B, C, D, E, F, G, H, I, J, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten());
+        }
+
+        default <R extends Record & Tuple10<R, A, B, C, D, E, F, G, H, I, J>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten());
+        }
+
+        default <R extends Record & Tuple10<R, A, B, C, D, E, F, G, H, I, J>> R to(Function10<A, B, C, D, E, F, G, H, I, J, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, TBuild extends Record & Tuple10<TBuild, A, B, C, D, E, F, G, H, I, J>> TBuild builder(MethodAwareFunction10<A, B, C, D, E, F, G, H, I, J, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6),
+                    (H) defaultValue(constructor, 7),
+                    (I) defaultValue(constructor, 8),
+                    (J) defaultValue(constructor, 9)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, TBuild extends Record & Tuple10<TBuild, A, B, C, D, E, F, G, H, I, J>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 10);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6),
+                    defaultValue(constructor, 7),
+                    defaultValue(constructor, 8),
+                    defaultValue(constructor, 9)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, TBuild extends Record & Tuple10<TBuild, A, B, C, D, E, F, G, H, I, J>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, Missing<H, TBuild, Missing<I, TBuild, Missing<J, TBuild, TBuild>>>>>>>>>> safebuilder(Function10<A, B, C, D, E, F, G, H, I, J, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> (propH, h) -> (propI, i) -> (propJ, j) -> ctor.apply(a, b, c, d, e, f, g, h, i, j);
+        }
+    }
+
+    @Mixin
+    interface Tuple11<TRecord extends Record & Tuple11<TRecord, A, B, C, D, E, F, G, H, I, J, K>, A, B, C, D, E, F, G, H, I, J, K> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default H eight() {
+            return (H) getter(7).apply(this);
+        }
+
+        default I nine() {
+            return (I) getter(8).apply(this);
+        }
+
+        default J ten() {
+            return (J) getter(9).apply(this);
+        }
+
+        default K eleven() {
+            return (K) getter(10).apply(this);
+        }
+
+        default void decompose(Consumer11<A, B, C, D, E, F, G, H, I, J, K> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven());
+        }
+
+        default <R> R decomposeTo(Function11<A, B, C, D, E, F, G, H, I, J, K, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven());
+        }
+
+        default <R extends Record & Tuple11<R, A, B, C, D, E, F, G, H, I, J, K>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven());
+        }
+
+        default <R extends Record & Tuple11<R, A, B, C, D, E, F, G, H, I, J, K>> R to(Function11<A, B, C, D, E, F, G, H, I, J, K, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, TBuild extends Record & Tuple11<TBuild, A, B, C, D, E, F, G, H, I, J, K>> TBuild builder(MethodAwareFunction11<A, B, C, D, E, F, G, H, I, J, K, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6),
+                    (H) defaultValue(constructor, 7),
+                    (I) defaultValue(constructor, 8),
+                    (J) defaultValue(constructor, 9),
+                    (K) defaultValue(constructor, 10)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, TBuild extends Record & Tuple11<TBuild, A, B, C, D, E, F, G, H, I, J, K>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 11);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6),
+                    defaultValue(constructor, 7),
+                    defaultValue(constructor, 8),
+                    defaultValue(constructor, 9),
+                    defaultValue(constructor, 10)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, TBuild extends Record & Tuple11<TBuild, A, B, C, D, E, F, G, H, I, J, K>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, Missing<H, TBuild, Missing<I, TBuild, Missing<J, TBuild, Missing<K, TBuild, TBuild>>>>>>>>>>> safebuilder(Function11<A, B, C, D, E, F, G, H, I, J, K, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> (propH, h) -> (propI, i) -> (propJ, j) -> (propK, k) -> ctor.apply(a, b, c, d, e, f, g, h, i, j, k);
+        }
+    }
+
+    @Mixin
+    interface Tuple12<TRecord extends Record & Tuple12<TRecord, A, B, C, D, E, F, G, H, I, J, K, L>, A, B, C, D, E, F, G, H, I, J, K, L> extends RecordTuple<TRecord> {
+        default A one() {
+            return (A) getter(0).apply(this);
+        }
+
+        default B two() {
+            return (B) getter(1).apply(this);
+        }
+
+        default C three() {
+            return (C) getter(2).apply(this);
+        }
+
+        default D four() {
+            return (D) getter(3).apply(this);
+        }
+
+        default E five() {
+            return (E) getter(4).apply(this);
+        }
+
+        default F six() {
+            return (F) getter(5).apply(this);
+        }
+
+        default G seven() {
+            return (G) getter(6).apply(this);
+        }
+
+        default H eight() {
+            return (H) getter(7).apply(this);
+        }
+
+        default I nine() {
+            return (I) getter(8).apply(this);
+        }
+
+        default J ten() {
+            return (J) getter(9).apply(this);
+        }
+
+        default K eleven() {
+            return (K) getter(10).apply(this);
+        }
+
+        default L twelve() {
+            return (L) getter(11).apply(this);
+        }
+
+        default void decompose(Consumer12<A, B, C, D, E, F, G, H, I, J, K, L> withComponents) {
+            withComponents.accept(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven(), twelve());
+        }
+
+        default <R> R decomposeTo(Function12<A, B, C, D, E, F, G, H, I, J, K, L, R> withComponents) {
+            return withComponents.apply(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven(), twelve());
+        }
+
+        default <R extends Record & Tuple12<R, A, B, C, D, E, F, G, H, I, J, K, L>> R to(Class<R> cls) {
+            return convertTo(cls).newInstance(one(), two(), three(), four(), five(), six(), seven(), eight(), nine(), ten(), eleven(), twelve());
+        }
+
+        default <R extends Record & Tuple12<R, A, B, C, D, E, F, G, H, I, J, K, L>> R to(Function12<A, B, C, D, E, F, G, H, I, J, K, L, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, L, TBuild extends Record & Tuple12<TBuild, A, B, C, D, E, F, G, H, I, J, K, L>> TBuild builder(MethodAwareFunction12<A, B, C, D, E, F, G, H, I, J, K, L, TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                    (A) defaultValue(constructor, 0),
+                    (B) defaultValue(constructor, 1),
+                    (C) defaultValue(constructor, 2),
+                    (D) defaultValue(constructor, 3),
+                    (E) defaultValue(constructor, 4),
+                    (F) defaultValue(constructor, 5),
+                    (G) defaultValue(constructor, 6),
+                    (H) defaultValue(constructor, 7),
+                    (I) defaultValue(constructor, 8),
+                    (J) defaultValue(constructor, 9),
+                    (K) defaultValue(constructor, 10),
+                    (L) defaultValue(constructor, 11)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, L, TBuild extends Record & Tuple12<TBuild, A, B, C, D, E, F, G, H, I, J, K, L>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = arity(RecordConstructor.of(cls), 12);
+            return constructor.newInstance(
+                    defaultValue(constructor, 0),
+                    defaultValue(constructor, 1),
+                    defaultValue(constructor, 2),
+                    defaultValue(constructor, 3),
+                    defaultValue(constructor, 4),
+                    defaultValue(constructor, 5),
+                    defaultValue(constructor, 6),
+                    defaultValue(constructor, 7),
+                    defaultValue(constructor, 8),
+                    defaultValue(constructor, 9),
+                    defaultValue(constructor, 10),
+                    defaultValue(constructor, 11)
+            );
+        }
+
+        static <A, B, C, D, E, F, G, H, I, J, K, L, TBuild extends Record & Tuple12<TBuild, A, B, C, D, E, F, G, H, I, J, K, L>> Missing<A, TBuild, Missing<B, TBuild, Missing<C, TBuild, Missing<D, TBuild, Missing<E, TBuild, Missing<F, TBuild, Missing<G, TBuild, Missing<H, TBuild, Missing<I, TBuild, Missing<J, TBuild, Missing<K, TBuild, Missing<L, TBuild, TBuild>>>>>>>>>>>> safebuilder(Function12<A, B, C, D, E, F, G, H, I, J, K, L, TBuild> ctor) {
+            return (propA, a) -> (propB, b) -> (propC, c) -> (propD, d) -> (propE, e) -> (propF, f) -> (propG, g) -> (propH, h) -> (propI, i) -> (propJ, j) -> (propK, k) -> (propL, l) -> ctor.apply(a, b, c, d, e, f, g, h, i, j, k, l);
+        }
+    }
+
+    interface Missing<V, TRecord, TNext> {
+        TNext with(MethodAwareFunction<TRecord, V> prop, V newValue);
+    }
+
+    interface Function3<A, B, C, R> {
+        R apply(A a, B b, C c);
+    }
+
+    interface Consumer3<A, B, C> {
+        void accept(A a, B b, C c);
+    }
+
+    interface Function4<A, B, C, D, R> {
+        R apply(A a, B b, C c, D d);
+    }
+
+    interface Consumer4<A, B, C, D> {
+        void accept(A a, B b, C c, D d);
+    }
+
+    interface Function5<A, B, C, D, E, R> {
+        R apply(A a, B b, C c, D d, E e);
+    }
+
+    interface Consumer5<A, B, C, D, E> {
+        void accept(A a, B b, C c, D d, E e);
+    }
+
+    interface Function6<A, B, C, D, E, F, R> {
+        R apply(A a, B b, C c, D d, E e, F f);
+    }
+
+    interface Consumer6<A, B, C, D, E, F> {
+        void accept(A a, B b, C c, D d, E e, F f);
+    }
+
+    interface Function7<A, B, C, D, E, F, G, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g);
+    }
+
+    interface Consumer7<A, B, C, D, E, F, G> {
+        void accept(A a, B b, C c, D d, E e, F f, G g);
+    }
+
+    interface Function8<A, B, C, D, E, F, G, H, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+    }
+
+    interface Consumer8<A, B, C, D, E, F, G, H> {
+        void accept(A a, B b, C c, D d, E e, F f, G g, H h);
+    }
+
+    interface Function9<A, B, C, D, E, F, G, H, I, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h, I i);
+    }
+
+    interface Consumer9<A, B, C, D, E, F, G, H, I> {
+        void accept(A a, B b, C c, D d, E e, F f, G g, H h, I i);
+    }
+
+    interface Function10<A, B, C, D, E, F, G, H, I, J, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j);
+    }
+
+    interface Consumer10<A, B, C, D, E, F, G, H, I, J> {
+        void accept(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j);
+    }
+
+    interface Function11<A, B, C, D, E, F, G, H, I, J, K, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k);
+    }
+
+    interface Consumer11<A, B, C, D, E, F, G, H, I, J, K> {
+        void accept(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k);
+    }
+
+    interface Function12<A, B, C, D, E, F, G, H, I, J, K, L, R> {
+        R apply(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l);
+    }
+
+    interface Consumer12<A, B, C, D, E, F, G, H, I, J, K, L> {
+        void accept(A a, B b, C c, D d, E e, F f, G g, H h, I i, J j, K k, L l);
+    }
+
+    interface MethodAwareBiFunction<A, B, R> extends BiFunction<A, B, R>, MethodFinder { }
+    interface MethodAwareFunction3<A, B, C, R> extends Function3<A, B, C, R>, MethodFinder { }
+    interface MethodAwareFunction4<A, B, C, D, R> extends Function4<A, B, C, D, R>, MethodFinder { }
+    interface MethodAwareFunction5<A, B, C, D, E, R> extends Function5<A, B, C, D, E, R>, MethodFinder { }
+    interface MethodAwareFunction6<A, B, C, D, E, F, R> extends Function6<A, B, C, D, E, F, R>, MethodFinder { }
+    interface MethodAwareFunction7<A, B, C, D, E, F, G, R> extends Function7<A, B, C, D, E, F, G, R>, MethodFinder { }
+    interface MethodAwareFunction8<A, B, C, D, E, F, G, H, R> extends Function8<A, B, C, D, E, F, G, H, R>, MethodFinder { }
+    interface MethodAwareFunction9<A, B, C, D, E, F, G, H, I, R> extends Function9<A, B, C, D, E, F, G, H, I, R>, MethodFinder { }
+    interface MethodAwareFunction10<A, B, C, D, E, F, G, H, I, J, R> extends Function10<A, B, C, D, E, F, G, H, I, J, R>, MethodFinder { }
+    interface MethodAwareFunction11<A, B, C, D, E, F, G, H, I, J, K, R> extends Function11<A, B, C, D, E, F, G, H, I, J, K, R>, MethodFinder { }
+    interface MethodAwareFunction12<A, B, C, D, E, F, G, H, I, J, K, L, R> extends Function12<A, B, C, D, E, F, G, H, I, J, K, L, R>, MethodFinder { }
+
+    private static <R> RecordConstructor<R> arity(RecordConstructor<R> constructor, int arity) {
+        if (constructor.arity() != arity) {
+            throw new IllegalStateException();
+        }
+        return constructor;
+    }
+
+    private static Object defaultValue(RecordConstructor<?> constructor, int index) {
+        return DefaultValue.ofType(constructor.parameterType(index));
+    }
+}
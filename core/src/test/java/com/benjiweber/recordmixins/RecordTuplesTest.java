@@ -0,0 +1,275 @@
+package com.benjiweber.recordmixins;
+
+import org.junit.Test;
+import typeref.DefaultValue;
+import typeref.MethodAwareFunction;
+import typeref.MethodFinder;
+import typeref.Mixin;
+import typeref.RecordAccessors;
+import typeref.RecordChanges;
+import typeref.RecordCompanion;
+import typeref.RecordConstructor;
+
+import java.util.Objects;
+
+import static com.benjiweber.recordmixins.RecordTuplesTest.TriTuple.builder;
+import static com.benjiweber.recordmixins.RecordTuplesTest.TriTuple.safebuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+public class RecordTuplesTest {
+
+    public record Colour(int red, int green, int blue) implements TriTuple<Colour,Integer,Integer,Integer> {}
+    public record Person(String name, int age, double height) implements TriTuple<Person, String, Integer, Double> {}
+    public record Town(int population, int altitude, int established) implements TriTuple<Town, Integer, Integer, Integer> { }
+    @Mixin public record Temperature(double celsius) {}
+
+    @Test
+    public void decomposable_record() {
+        Colour colour = new Colour(1,2,3);
+
+        colour.decompose((r,g,b) -> {
+            assertEquals(1, r.intValue());
+            assertEquals(2, g.intValue());
+            assertEquals(3, b.intValue());
+        });
+
+        var sum = colour.decomposeTo((r,g,b) -> r+g+b);
+        assertEquals(6, sum.intValue());
+    }
+
+    @Test
+    public void structural_convert_reflection() {
+        Colour colour = new Colour(1,2,3);
+        Town town = colour.to(Town.class);
+        assertEquals(1, town.population());
+        assertEquals(2, town.altitude());
+        assertEquals(3, town.established());
+    }
+    @Test
+    public void structural_convert_method_reference() {
+        Colour colour = new Colour(1, 2, 3);
+        Town town = colour.to(Town::new);
+        assertEquals(1, town.population());
+        assertEquals(2, town.altitude());
+        assertEquals(3, town.established());
+    }
+
+    @Test
+    public void replace_property() {
+        Colour colour = new Colour(1,2,3);
+        Colour changed = colour.with(Colour::red, 5);
+        assertEquals(new Colour(5,2,3), changed);
+
+        Person p1 = new Person("Leslie", 12, 48.3);
+        Person p2 = p1.with(Person::name, "Beverly");
+        assertEquals(new Person("Beverly", 12, 48.3), p2);
+    }
+
+    @Test
+    public void replace_properties() {
+        Colour colour = new Colour(1,2,3);
+        Colour changed = colour.changes()
+                .with(Colour::red, 5)
+                .with(Colour::green, 6)
+                .apply();
+        assertEquals(new Colour(5,6,3), changed);
+    }
+
+    @Test
+    public void replace_property_unchanged() {
+        Person p1 = new Person("Leslie", 12, 48.3);
+        assertSame(p1, p1.with(Person::name, "Leslie"));
+        assertSame(p1, p1.changes().with(Person::age, 12).with(Person::height, 48.3).apply());
+    }
+
+    @Test
+    public void replace_property_changed_back() {
+        Person p1 = new Person("Leslie", 12, 48.3);
+        assertSame(p1, p1.changes().with(Person::age, 5).with(Person::age, 12).apply());
+        assertEquals(new Person("Leslie", 5, 48.3), p1.changes().with(Person::age, 5).with(Person::age, 12).with(Person::age, 5).apply());
+    }
+
+    @Test
+    public void auto_builders() {
+        Person sam = builder(Person::new)
+                .with(Person::name, "Sam")
+                .with(Person::age, 34)
+                .with(Person::height, 83.2);
+
+        assertEquals(new Person("Sam", 34, 83.2), sam);
+    }
+
+    @Test
+    public void mandatory_builders() {
+        Person sam = safebuilder(Person::new)
+                .with(Person::name, "Sam")
+                .with(Person::age, 34)
+                .with(Person::height, 83.2);
+
+        assertEquals(new Person("Sam", 34, 83.2), sam);
+    }
+
+    @Test
+    public void auto_builders_reflection() {
+        Person sam = builder(Person.class)
+            .with(Person::name, "Sam")
+            .with(Person::age, 34)
+            .with(Person::height, 83.2);
+
+        assertEquals(new Person("Sam", 34, 83.2), sam);
+    }
+
+    @Test
+    public void generated_mixins() {
+        Colour colour = new Colour(1,2,3);
+
+        assertEquals(new Colour(5,2,3), RecordTuplesTest_ColourMixins.withRed(colour, 5));
+        assertEquals(new Town(1,2,3), RecordTuplesTest_ColourMixins.toTown(colour));
+        assertEquals(6, RecordTuplesTest_ColourMixins.decompose(colour, (r,g,b) -> r+g+b).intValue());
+        assertEquals(new Temperature(21.5), RecordTuplesTest_TemperatureMixins.withCelsius(new Temperature(0), 21.5));
+    }
+
+    @Test
+    public void generated_safebuilder() {
+        Person sam = RecordTuplesTest_PersonMixins.builder()
+                .name("Sam")
+                .age(34)
+                .height(83.2);
+
+        assertEquals(new Person("Sam", 34, 83.2), sam);
+    }
+
+    @Test
+    public void mixins_delegate_to_generated_companion() {
+        assertNotNull(RecordCompanion.of(Colour.class));
+        assertEquals(new Colour(1,9,3), new Colour(1,2,3).with(Colour::green, 9));
+    }
+
+    @Mixin
+    interface TriTuple<TRecord extends Record & TriTuple<TRecord, T, U, V>,T,U,V> extends DecomposableRecord {
+        default T one() {
+            return getComponentValue(0);
+        }
+
+        default U two() {
+            return getComponentValue(1);
+        }
+
+        default V three() {
+            return getComponentValue(2);
+        }
+
+
+        default void decompose(TriConsumer<T,U,V> withComponents) {
+            withComponents.apply(one(), two(), three());
+        }
+
+        default <R> R decomposeTo(TriFunction<T,U,V,R> withComponents) {
+            return withComponents.apply(one(), two(), three());
+        }
+
+        default <R extends Record & TriTuple<R,T,U,V>> R to(Class<R> cls) {
+            RecordConstructor<R> constructor = RecordConstructor.of(cls);
+            if (!constructor.acceptsComponentsOf(getClass())) {
+                throw new IllegalStateException();
+            }
+            return constructor.newInstance(one(), two(), three());
+        }
+
+        default <R extends Record & TriTuple<R, T, U, V>> R to(TriFunction<T, U, V, R> ctor) {
+            return decomposeTo(ctor);
+        }
+
+        default <R> TRecord with(MethodAwareFunction<TRecord, R> prop, R newValue) {
+            return changes().with(prop, newValue).apply();
+        }
+
+        default RecordChanges<TRecord> changes() {
+            return RecordChanges.of((TRecord) this);
+        }
+
+        static <T, U, V, TBuild extends Record & TriTuple<TBuild, T, U ,V>> ThreeMissing<T,U,V,TBuild> safebuilder(MethodAwareTriFunction<T,U,V,TBuild> ctor) {
+            return (__, t) -> (___, u) -> (____, v)-> ctor.apply(
+                t,
+                u,
+                v
+            );
+        }
+
+        interface ThreeMissing<T,U,V, TRecord> {
+            TwoMissing<T,U,V, TRecord> with(MethodAwareFunction<TRecord, T> prop, T newValue);
+        }
+        interface TwoMissing<T,U,V, TRecord> {
+            OneMissing<T,U,V, TRecord> with(MethodAwareFunction<TRecord, U> prop, U newValue);
+        }
+        interface OneMissing<T,U,V, TRecord> {
+            TRecord with(MethodAwareFunction<TRecord, V> prop, V newValue);
+        }
+
+        static <T, U, V, TBuild extends Record & TriTuple<TBuild, T, U ,V>> TBuild builder(MethodAwareTriFunction<T,U,V,TBuild> ctor) {
+            var constructor = RecordConstructor.of(ctor.getContainingClass());
+            return ctor.apply(
+                DefaultValue.<T>ofType(constructor.parameterType(0)),
+                DefaultValue.<U>ofType(constructor.parameterType(1)),
+                DefaultValue.<V>ofType(constructor.parameterType(2))
+            );
+        }
+
+        static <T, U, V, TBuild extends Record & TriTuple<TBuild, T, U ,V>> TBuild builder(Class<TBuild> cls) {
+            RecordConstructor<TBuild> constructor = RecordConstructor.of(cls);
+            if (constructor.arity() != 3) {
+                throw new IllegalStateException();
+            }
+            return constructor.newInstance(
+                    DefaultValue.ofType(constructor.parameterType(0)),
+                    DefaultValue.ofType(constructor.parameterType(1)),
+                    DefaultValue.ofType(constructor.parameterType(2))
+            );
+        }
+
+    }
+
+    interface DecomposableRecord {
+        default <T> T getComponentValue(int index) {
+            return RecordAccessors.of(getClass()).get((Record) this, index);
+        }
+
+        default <T> NamedProperty<T> getComponent(int index) {
+            return new NamedProperty<T>((Record)this, RecordAccessors.of(getClass()), index);
+        }
+
+        record NamedProperty<T>(Record record, RecordAccessors accessors, int index) {
+            public T value() {
+                return accessors.get(record, index);
+            }
+
+            public String name() {
+                return accessors.name(index);
+            }
+
+            public T replaceIfNamed(String propName, T newValue) {
+                return Objects.equals(name(), propName)
+                        ? newValue
+                        : value();
+            }
+        }
+
+
+    }
+
+
+
+    public interface MethodAwareTriFunction<T,U,V,R> extends TriFunction<T,U,V,R>, MethodFinder { }
+
+    interface TriFunction<T,U,V,R> {
+        R apply(T t, U u, V v);
+    }
+
+    interface TriConsumer<T,U,V> {
+        void apply(T t, U u, V v);
+    }
+
+
+}
@@ -0,0 +1,337 @@
+package com.benjiweber.recordmixins;
+
+import com.benjiweber.recordmixins.RecordTuplesTest.Colour;
+import com.benjiweber.recordmixins.RecordTuplesTest.Person;
+import com.benjiweber.recordmixins.RecordTuplesTest.TriConsumer;
+import com.benjiweber.recordmixins.RecordTuplesTest.TriTuple;
+import org.junit.Test;
+import typeref.RecordConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class TupleColumnsTest {
+
+    @Test
+    public void store_and_materialise() {
+        var colours = TriTupleColumns.of(Colour.class);
+        colours.add(new Colour(1, 2, 3));
+        colours.add(new Colour(4, 5, 6));
+
+        assertEquals(2, colours.size());
+        assertEquals(new Colour(4, 5, 6), colours.get(1));
+    }
+
+    @Test
+    public void decompose_without_records() {
+        var colours = TriTupleColumns.of(Colour.class);
+        for (int i = 0; i < 100_000; i++) {
+            colours.add(new Colour(i % 256, 1, 2));
+        }
+        var sum = new AtomicLong();
+
+        colours.forEach((r, g, b) -> sum.addAndGet(r + g + b));
+
+        assertEquals(LongStream.range(0, 100_000).map(i -> i % 256 + 3).sum(), sum.get());
+    }
+
+    @Test
+    public void primitive_scan() {
+        var colours = TriTupleColumns.of(Colour.class);
+        for (int i = 0; i < 100_000; i++) {
+            colours.add(new Colour(i, 1, 2));
+        }
+        long[] sum = new long[1];
+
+        colours.forEachInts((r, g, b) -> sum[0] += r + g + b);
+
+        assertEquals(LongStream.range(0, 100_000).map(i -> i + 3).sum(), sum[0]);
+        assertEquals(99_999, colours.getInt(99_999, 0));
+    }
+
+    @Test
+    public void primitive_row_access() {
+        var people = TriTupleColumns.of(Person.class);
+        people.add(new Person("Sam", 34, 83.2));
+        people.add(new Person("Leslie", 12, 48.3));
+        double[] height = new double[1];
+
+        people.forEachRow(row -> height[0] += people.getDouble(row, 2) * people.getInt(row, 1));
+
+        assertEquals(34 * 83.2 + 12 * 48.3, height[0], 0.0001);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void primitive_access_to_object_column() {
+        var people = TriTupleColumns.of(Person.class);
+        people.add(new Person("Sam", 34, 83.2));
+
+        people.getInt(0, 0);
+    }
+
+    @Test
+    public void mixed_component_types() {
+        var people = TriTupleColumns.of(Person.class);
+        people.add(new Person("Sam", 34, 83.2));
+        people.add(new Person("Leslie", 12, 48.3));
+        List<String> names = new ArrayList<>();
+
+        people.decompose(1, (name, age, height) -> names.add(name + age + height));
+
+        assertEquals(List.of("Leslie1248.3"), names);
+        assertEquals(new Person("Sam", 34, 83.2), people.get(0));
+    }
+
+    public static final class TriTupleColumns<R extends Record & TriTuple<R, T, U, V>, T, U, V> {
+        private final RecordConstructor<R> constructor;
+        private final Column<T> first;
+        private final Column<U> second;
+        private final Column<V> third;
+        private int size;
+
+        private TriTupleColumns(RecordConstructor<R> constructor) {
+            this.constructor = constructor;
+            this.first = Column.forType(constructor.parameterType(0));
+            this.second = Column.forType(constructor.parameterType(1));
+            this.third = Column.forType(constructor.parameterType(2));
+        }
+
+        public static <R extends Record & TriTuple<R, T, U, V>, T, U, V> TriTupleColumns<R, T, U, V> of(Class<R> type) {
+            RecordConstructor<R> constructor = RecordConstructor.of(type);
+            if (constructor.arity() != 3) {
+                throw new IllegalStateException();
+            }
+            return new TriTupleColumns<>(constructor);
+        }
+
+        public void add(R record) {
+            first.set(size, record.one());
+            second.set(size, record.two());
+            third.set(size, record.three());
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public R get(int row) {
+            return constructor.newInstance(first.get(checked(row)), second.get(row), third.get(row));
+        }
+
+        public void decompose(int row, TriConsumer<T, U, V> withComponents) {
+            withComponents.apply(first.get(checked(row)), second.get(row), third.get(row));
+        }
+
+        public void forEach(TriConsumer<T, U, V> withComponents) {
+            for (int row = 0; row < size; row++) {
+                withComponents.apply(first.get(row), second.get(row), third.get(row));
+            }
+        }
+
+        public void forEachRow(IntConsumer withRow) {
+            for (int row = 0; row < size; row++) {
+                withRow.accept(row);
+            }
+        }
+
+        public void forEachInts(IntTriConsumer withComponents) {
+            IntColumn one = primitive(first, IntColumn.class);
+            IntColumn two = primitive(second, IntColumn.class);
+            IntColumn three = primitive(third, IntColumn.class);
+            for (int row = 0; row < size; row++) {
+                withComponents.accept(one.getInt(row), two.getInt(row), three.getInt(row));
+            }
+        }
+
+        public void forEachLongs(LongTriConsumer withComponents) {
+            LongColumn one = primitive(first, LongColumn.class);
+            LongColumn two = primitive(second, LongColumn.class);
+            LongColumn three = primitive(third, LongColumn.class);
+            for (int row = 0; row < size; row++) {
+                withComponents.accept(one.getLong(row), two.getLong(row), three.getLong(row));
+            }
+        }
+
+        public void forEachDoubles(DoubleTriConsumer withComponents) {
+            DoubleColumn one = primitive(first, DoubleColumn.class);
+            DoubleColumn two = primitive(second, DoubleColumn.class);
+            DoubleColumn three = primitive(third, DoubleColumn.class);
+            for (int row = 0; row < size; row++) {
+                withComponents.accept(one.getDouble(row), two.getDouble(row), three.getDouble(row));
+            }
+        }
+
+        public int getInt(int row, int component) {
+            return primitive(column(component), IntColumn.class).getInt(checked(row));
+        }
+
+        public long getLong(int row, int component) {
+            return primitive(column(component), LongColumn.class).getLong(checked(row));
+        }
+
+        public double getDouble(int row, int component) {
+            return primitive(column(component), DoubleColumn.class).getDouble(checked(row));
+        }
+
+        private Column<?> column(int component) {
+            return switch (component) {
+                case 0 -> first;
+                case 1 -> second;
+                case 2 -> third;
+                default -> throw new IndexOutOfBoundsException(component);
+            };
+        }
+
+        private static <C extends Column<?>> C primitive(Column<?> column, Class<C> type) {
+            if (!type.isInstance(column)) {
+                throw new IllegalStateException("Component is stored in " + column.getClass().getSimpleName() + ", not " + type.getSimpleName());
+            }
+            return type.cast(column);
+        }
+
+        private int checked(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException(row);
+            }
+            return row;
+        }
+    }
+
+    interface IntTriConsumer {
+        void accept(int one, int two, int three);
+    }
+
+    interface LongTriConsumer {
+        void accept(long one, long two, long three);
+    }
+
+    interface DoubleTriConsumer {
+        void accept(double one, double two, double three);
+    }
+
+    interface Column<T> {
+        T get(int row);
+        void set(int row, T value);
+
+        static <T> Column<T> forType(Class<?> type) {
+            if (type == int.class) return (Column<T>) new IntColumn();
+            if (type == long.class) return (Column<T>) new LongColumn();
+            if (type == double.class) return (Column<T>) new DoubleColumn();
+            return new ObjectColumn<>();
+        }
+    }
+
+    static abstract class OffHeapColumn {
+        private final int width;
+        protected ByteBuffer buffer;
+
+        OffHeapColumn(int width) {
+            this.width = width;
+            this.buffer = allocate(1024 * width);
+        }
+
+        protected int offset(int row) {
+            long offset = (long) row * width;
+            if (row < 0 || offset > Integer.MAX_VALUE - width) {
+                throw new IndexOutOfBoundsException(row);
+            }
+            return (int) offset;
+        }
+
+        protected int reserve(int row) {
+            int offset = offset(row);
+            if (offset + width > buffer.capacity()) {
+                long doubled = 2L * buffer.capacity();
+                ByteBuffer grown = allocate((int) Math.min(Integer.MAX_VALUE, Math.max(offset + width, doubled)));
+                grown.put(buffer.clear());
+                buffer = grown;
+            }
+            return offset;
+        }
+
+        private static ByteBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    static final class IntColumn extends OffHeapColumn implements Column<Integer> {
+        IntColumn() {
+            super(Integer.BYTES);
+        }
+
+        public Integer get(int row) {
+            return getInt(row);
+        }
+
+        public int getInt(int row) {
+            return buffer.getInt(offset(row));
+        }
+
+        public void set(int row, Integer value) {
+            int offset = reserve(row);
+            buffer.putInt(offset, value);
+        }
+    }
+
+    static final class LongColumn extends OffHeapColumn implements Column<Long> {
+        LongColumn() {
+            super(Long.BYTES);
+        }
+
+        public Long get(int row) {
+            return getLong(row);
+        }
+
+        public long getLong(int row) {
+            return buffer.getLong(offset(row));
+        }
+
+        public void set(int row, Long value) {
+            int offset = reserve(row);
+            buffer.putLong(offset, value);
+        }
+    }
+
+    static final class DoubleColumn extends OffHeapColumn implements Column<Double> {
+        DoubleColumn() {
+            super(Double.BYTES);
+        }
+
+        public Double get(int row) {
+            return getDouble(row);
+        }
+
+        public double getDouble(int row) {
+            return buffer.getDouble(offset(row));
+        }
+
+        public void set(int row, Double value) {
+            int offset = reserve(row);
+            buffer.putDouble(offset, value);
+        }
+    }
+
+    static final class ObjectColumn<T> implements Column<T> {
+        private Object[] values = new Object[1024];
+
+        public T get(int row) {
+            return (T) values[row];
+        }
+
+        public void set(int row, T value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, Math.max(row + 1, values.length * 2));
+            }
+            values[row] = value;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.benjiweber.recordmixins.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@SupportedAnnotationTypes("*")
+public class MixinProcessor extends AbstractProcessor {
+    private static final String MIXIN = "typeref.Mixin";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        List<TypeElement> records = new ArrayList<>();
+        for (Element root : roundEnv.getRootElements()) {
+            collectRecords(root, records);
+        }
+        for (TypeElement record : records) {
+            if (generated.add(record.getQualifiedName().toString())) {
+                generate(record, records);
+            }
+        }
+        return false;
+    }
+
+    private void collectRecords(Element element, List<TypeElement> records) {
+        if (element.getModifiers().contains(Modifier.PRIVATE)) {
+            return;
+        }
+        if (element.getKind() == ElementKind.RECORD && isMixin((TypeElement) element)) {
+            TypeElement record = (TypeElement) element;
+            if (record.getTypeParameters().isEmpty()) {
+                records.add(record);
+            } else {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Skipping generic record", record);
+            }
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind().isClass() || enclosed.getKind().isInterface()) {
+                collectRecords(enclosed, records);
+            }
+        }
+    }
+
+    private boolean isMixin(TypeElement type) {
+        boolean annotated = type.getAnnotationMirrors().stream()
+                .map(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString())
+                .anyMatch(MIXIN::equals);
+        return annotated || type.getInterfaces().stream()
+                .map(iface -> (TypeElement) ((DeclaredType) iface).asElement())
+                .anyMatch(this::isMixin);
+    }
+
+    private void generate(TypeElement record, List<TypeElement> candidates) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String companionName = companionName(record, packageName);
+        String recordName = record.getQualifiedName().toString();
+        List<Component> components = components(record);
+
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(qualified(packageName, companionName), record)
+                .openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + MixinProcessor.class.getName() + "\")");
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.println("public final class " + companionName + " implements typeref.RecordCompanion<" + recordName + "> {");
+            withers(out, recordName, components);
+            decompose(out, recordName, components);
+            builder(out, recordName, components);
+            converters(out, record, recordName, components, candidates);
+            companion(out, recordName, components);
+            out.println("}");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to generate mixins: " + e.getMessage(), record);
+        }
+    }
+
+    private void withers(PrintWriter out, String recordName, List<Component> components) {
+        for (Component component : components) {
+            String args = components.stream()
+                    .map(other -> other == component ? "value" : "original." + other.name() + "()")
+                    .collect(Collectors.joining(", "));
+            out.println();
+            out.println("    public static " + recordName + " with" + capitalise(component.name()) + "(" + recordName + " original, " + component.type() + " value) {");
+            out.println("        return new " + recordName + "(" + args + ");");
+            out.println("    }");
+        }
+    }
+
+    private void decompose(PrintWriter out, String recordName, List<Component> components) {
+        out.println();
+        out.println("    public interface Components<R> {");
+        out.println("        R apply(" + parameters(components) + ");");
+        out.println("    }");
+        out.println();
+        out.println("    public static <R> R decompose(" + recordName + " original, Components<R> withComponents) {");
+        out.println("        return withComponents.apply(" + accessorCalls(components) + ");");
+        out.println("    }");
+    }
+
+    private void builder(PrintWriter out, String recordName, List<Component> components) {
+        out.println();
+        if (components.isEmpty()) {
+            out.println("    public static " + recordName + " builder() {");
+            out.println("        return new " + recordName + "();");
+            out.println("    }");
+            return;
+        }
+        String lambdas = components.stream().map(Component::name).collect(Collectors.joining(" -> "));
+        out.println("    public static " + stageName(components.get(0)) + " builder() {");
+        out.println("        return " + lambdas + " -> new " + recordName + "(" + names(components) + ");");
+        out.println("    }");
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            String next = i + 1 < components.size() ? stageName(components.get(i + 1)) : recordName;
+            out.println();
+            out.println("    public interface " + stageName(component) + " {");
+            out.println("        " + next + " " + component.name() + "(" + component.type() + " " + component.name() + ");");
+            out.println("    }");
+        }
+    }
+
+    private void converters(PrintWriter out, TypeElement record, String recordName, List<Component> components, List<TypeElement> candidates) {
+        Map<String, List<TypeElement>> targets = candidates.stream()
+                .filter(target -> target != record)
+                .filter(target -> convertible(components, components(target)))
+                .collect(Collectors.groupingBy(target -> target.getSimpleName().toString()));
+        targets.values().stream()
+                .filter(sameName -> sameName.size() == 1)
+                .map(sameName -> sameName.get(0))
+                .forEach(target -> {
+                    String targetName = target.getQualifiedName().toString();
+                    out.println();
+                    out.println("    public static " + targetName + " to" + target.getSimpleName() + "(" + recordName + " original) {");
+                    out.println("        return new " + targetName + "(" + accessorCalls(components) + ");");
+                    out.println("    }");
+                });
+    }
+
+    private void companion(PrintWriter out, String recordName, List<Component> components) {
+        out.println();
+        out.println("    @Override");
+        out.println("    public Object component(" + recordName + " original, int index) {");
+        out.println("        return switch (index) {");
+        for (int i = 0; i < components.size(); i++) {
+            out.println("            case " + i + " -> original." + components.get(i).name() + "();");
+        }
+        out.println("            default -> throw new IndexOutOfBoundsException(index);");
+        out.println("        };");
+        out.println("    }");
+        out.println();
+        String casts = IntStream.range(0, components.size())
+                .mapToObj(i -> "(" + components.get(i).type() + ") args[" + i + "]")
+                .collect(Collectors.joining(", "));
+        out.println("    @Override");
+        out.println("    public " + recordName + " construct(Object... args) {");
+        out.println("        return new " + recordName + "(" + casts + ");");
+        out.println("    }");
+    }
+
+    private boolean convertible(List<Component> from, List<Component> to) {
+        if (from.size() != to.size()) return false;
+        for (int i = 0; i < from.size(); i++) {
+            if (!processingEnv.getTypeUtils().isAssignable(from.get(i).mirror(), to.get(i).mirror())) return false;
+        }
+        return true;
+    }
+
+    private List<Component> components(TypeElement record) {
+        List<Component> components = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            TypeMirror type = processingEnv.getTypeUtils().erasure(component.asType());
+            components.add(new Component(component.getSimpleName().toString(), type.toString(), type));
+        }
+        return components;
+    }
+
+    private String companionName(TypeElement record, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(record).toString();
+        String nestedName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return nestedName.replace('$', '_') + "Mixins";
+    }
+
+    private static String qualified(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    private static String parameters(List<Component> components) {
+        return join(components, component -> component.type() + " " + component.name());
+    }
+
+    private static String accessorCalls(List<Component> components) {
+        return join(components, component -> "original." + component.name() + "()");
+    }
+
+    private static String names(List<Component> components) {
+        return join(components, Component::name);
+    }
+
+    private static String join(List<Component> components, Function<Component, String> f) {
+        return components.stream().map(f).collect(Collectors.joining(", "));
+    }
+
+    private static String stageName(Component component) {
+        return capitalise(component.name()) + "Stage";
+    }
+
+    private static String capitalise(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private record Component(String name, String type, TypeMirror mirror) {}
+}